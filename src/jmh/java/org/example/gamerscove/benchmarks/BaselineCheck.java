@@ -0,0 +1,73 @@
+package org.example.gamerscove.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file against the checked-in baseline and exits non-zero when any
+ * benchmark regressed by more than the tolerance (a fraction, e.g. 0.25 for 25%).
+ * <p>
+ * Usage: {@code BaselineCheck <baseline.json> <result.json> <tolerance>}
+ * <p>
+ * Benchmarks missing from the baseline are reported but do not fail the check. Time-per-op
+ * modes regress when the score goes up, throughput when it goes down.
+ */
+public final class BaselineCheck {
+
+    private BaselineCheck() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: BaselineCheck <baseline.json> <result.json> <tolerance>");
+            System.exit(2);
+        }
+
+        Map<String, JsonNode> baseline = load(new File(args[0]));
+        Map<String, JsonNode> results = load(new File(args[1]));
+        double tolerance = Double.parseDouble(args[2]);
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : results.entrySet()) {
+            JsonNode current = entry.getValue();
+            JsonNode previous = baseline.get(entry.getKey());
+            double score = current.path("primaryMetric").path("score").asDouble();
+            String unit = current.path("primaryMetric").path("scoreUnit").asText();
+
+            if (previous == null) {
+                System.out.printf("NEW        %-70s %12.2f %s%n", entry.getKey(), score, unit);
+                continue;
+            }
+
+            double baselineScore = previous.path("primaryMetric").path("score").asDouble();
+            boolean higherIsBetter = "thrpt".equals(current.path("mode").asText());
+            double change = (score - baselineScore) / baselineScore;
+            double regression = higherIsBetter ? -change : change;
+
+            String verdict = regression > tolerance ? "REGRESSED" : "ok";
+            if (regression > tolerance) {
+                regressions++;
+            }
+            System.out.printf("%-10s %-70s %12.2f %s (baseline %.2f, %+.1f%%)%n",
+                    verdict, entry.getKey(), score, unit, baselineScore, change * 100);
+        }
+
+        if (regressions > 0) {
+            System.err.printf("%d benchmark(s) regressed by more than %.0f%%%n", regressions, tolerance * 100);
+            System.exit(1);
+        }
+    }
+
+    // Keyed by benchmark method plus mode, so the same method measured two ways stays distinct
+    private static Map<String, JsonNode> load(File file) throws IOException {
+        Map<String, JsonNode> byName = new HashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            byName.put(run.path("benchmark").asText() + " [" + run.path("mode").asText() + "]", run);
+        }
+        return byName;
+    }
+}
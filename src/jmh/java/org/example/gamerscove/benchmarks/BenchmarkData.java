@@ -0,0 +1,67 @@
+package org.example.gamerscove.benchmarks;
+
+import org.example.gamerscove.domain.entities.GameEntity;
+import org.example.gamerscove.domain.entities.ReviewEntity;
+import org.example.gamerscove.domain.entities.UserEntity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+// Representative entities for the benchmarks: sizes match a typical profile and catalog page
+final class BenchmarkData {
+
+    static final int FAVORITE_COUNT = 50;
+
+    private BenchmarkData() {}
+
+    static GameEntity game(long id) {
+        GameEntity game = GameEntity.builder()
+                .id(id)
+                .externalApiId("igdb_" + id)
+                .title("The Legend of Benchmarks " + id)
+                .description("An open-world adventure used to measure mapping and serialization costs. ".repeat(4))
+                .coverImageUrl("https://images.igdb.com/igdb/image/upload/t_cover_big/co" + id + ".jpg")
+                .releaseDate(LocalDate.of(2017, 3, 3))
+                .build();
+        game.setPlatformNames("PC", "PlayStation 5", "Xbox Series X|S", "Nintendo Switch");
+        game.setGenreNames("Adventure", "Role-playing (RPG)");
+        return game;
+    }
+
+    static UserEntity user(long id) {
+        long[] favorites = new long[FAVORITE_COUNT];
+        for (int i = 0; i < FAVORITE_COUNT; i++) {
+            favorites[i] = 1_000L + i * 37L;
+        }
+
+        Map<String, String> gamertags = new HashMap<>();
+        gamertags.put("steam", "bench_player");
+        gamertags.put("psn", "bench_player_psn");
+        gamertags.put("xbox", "BenchPlayer");
+
+        UserEntity user = UserEntity.builder()
+                .id(id)
+                .firebaseUid("firebase-uid-" + id)
+                .username("bench_player_" + id)
+                .email("bench" + id + "@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuv")
+                .avatarUrl("https://example.com/avatars/" + id + ".png")
+                .bio("Plays everything, reviews most of it.")
+                .gamertags(gamertags)
+                .build();
+        user.setPreferredPlatforms(new String[]{"PC", "PlayStation 5"});
+        user.setFavoriteGameIds(favorites);
+        user.setGamertagsVisibility(UserEntity.GamertagsVisibility.FRIENDS);
+        return user;
+    }
+
+    static ReviewEntity review(long id, UserEntity user, GameEntity game) {
+        ReviewEntity review = new ReviewEntity(user, game, 8,
+                "Great combat and a world worth exploring, though the story drags in the middle. ".repeat(3));
+        review.setId(id);
+        review.setCreatedAt(LocalDateTime.of(2025, 1, 15, 12, 30));
+        return review;
+    }
+}
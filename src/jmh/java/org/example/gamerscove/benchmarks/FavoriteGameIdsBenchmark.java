@@ -0,0 +1,49 @@
+package org.example.gamerscove.benchmarks;
+
+import org.example.gamerscove.domain.entities.UserEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of the favorite game id accessors on a user with a typical number of favorites
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FavoriteGameIdsBenchmark {
+
+    private UserEntity user;
+    private long presentId;
+    private long absentId;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkData.user(1L);
+        long[] ids = user.getFavoriteGameIds();
+        presentId = ids[ids.length / 2];
+        absentId = -1L;
+    }
+
+    @Benchmark
+    public long[] getFavoriteGameIds() {
+        return user.getFavoriteGameIds();
+    }
+
+    @Benchmark
+    public boolean hasFavoriteGameId() {
+        return user.hasFavoriteGameId(presentId);
+    }
+
+    // Adds then removes the same id so every invocation starts from the same list
+    @Benchmark
+    public UserEntity addAndRemoveFavoriteGameId() {
+        user.addFavoriteGameId(absentId);
+        user.removeFavoriteGameId(absentId);
+        return user;
+    }
+}
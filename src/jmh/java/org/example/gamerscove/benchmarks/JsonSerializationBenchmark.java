@@ -0,0 +1,59 @@
+package org.example.gamerscove.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.gamerscove.domain.dto.GameDto;
+import org.example.gamerscove.domain.dto.ReviewDto;
+import org.example.gamerscove.domain.dto.UserDto;
+import org.example.gamerscove.domain.entities.GameEntity;
+import org.example.gamerscove.domain.entities.UserEntity;
+import org.example.gamerscove.mappers.impl.GameMapperImpl;
+import org.example.gamerscove.mappers.impl.ReviewMapperImpl;
+import org.example.gamerscove.mappers.impl.UserMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+// Response body serialization with an ObjectMapper configured the way Spring MVC builds its own
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private GameDto gameDto;
+    private ReviewDto reviewDto;
+    private UserDto userDto;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        GameEntity game = BenchmarkData.game(42L);
+        UserEntity user = BenchmarkData.user(7L);
+        gameDto = new GameMapperImpl().mapTo(game);
+        userDto = new UserMapperImpl().mapTo(user);
+        reviewDto = new ReviewMapperImpl().mapTo(BenchmarkData.review(99L, user, game));
+    }
+
+    @Benchmark
+    public byte[] serializeGameDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(gameDto);
+    }
+
+    @Benchmark
+    public byte[] serializeReviewDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(reviewDto);
+    }
+
+    @Benchmark
+    public byte[] serializeUserDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(userDto);
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.gamerscove.benchmarks;
+
+import org.example.gamerscove.domain.dto.GameDto;
+import org.example.gamerscove.domain.dto.ReviewDto;
+import org.example.gamerscove.domain.dto.UserDto;
+import org.example.gamerscove.domain.entities.GameEntity;
+import org.example.gamerscove.domain.entities.ReviewEntity;
+import org.example.gamerscove.domain.entities.UserEntity;
+import org.example.gamerscove.mappers.impl.GameMapperImpl;
+import org.example.gamerscove.mappers.impl.ReviewMapperImpl;
+import org.example.gamerscove.mappers.impl.UserMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// Entity <-> DTO mapping that runs on every API response and request body
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private final GameMapperImpl gameMapper = new GameMapperImpl();
+    private final UserMapperImpl userMapper = new UserMapperImpl();
+    private final ReviewMapperImpl reviewMapper = new ReviewMapperImpl();
+
+    private GameEntity game;
+    private GameDto gameDto;
+    private UserEntity user;
+    private UserDto userDto;
+    private ReviewEntity review;
+
+    @Setup
+    public void setUp() {
+        game = BenchmarkData.game(42L);
+        gameDto = gameMapper.mapTo(game);
+        user = BenchmarkData.user(7L);
+        userDto = userMapper.mapTo(user);
+        review = BenchmarkData.review(99L, user, game);
+    }
+
+    @Benchmark
+    public GameDto gameToDto() {
+        return gameMapper.mapTo(game);
+    }
+
+    @Benchmark
+    public GameEntity gameFromDto() {
+        return gameMapper.mapFrom(gameDto);
+    }
+
+    @Benchmark
+    public UserDto userToDto() {
+        return userMapper.mapTo(user);
+    }
+
+    @Benchmark
+    public UserEntity userFromDto() {
+        return userMapper.mapFrom(userDto);
+    }
+
+    @Benchmark
+    public ReviewDto reviewToDto() {
+        return reviewMapper.mapTo(review);
+    }
+}
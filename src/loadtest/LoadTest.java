@@ -0,0 +1,144 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator for comparing Tomcat on platform threads with the
+ * virtual-thread mode. Two client groups run at once: "slow" clients hit an endpoint that
+ * mostly waits (on the database or a downstream), "fast" clients hit one that does not.
+ * With a bounded request thread pool, the slow requests occupy every thread and the fast
+ * ones queue behind them; the fast group's latency shows whether that happens.
+ * <p>
+ * Run against a started application (no build needed, JDK 17+):
+ * <pre>
+ * java src/loadtest/LoadTest.java --slow-path=/api/reviews/search?q=great --slow-clients=400 \
+ *     --fast-path=/api/users/1/suggestions --fast-clients=20 --duration=30
+ * </pre>
+ * Title search is CPU-bound rather than waiting, so under virtual threads it shows per-request
+ * allocation instead; point both groups at it to compare builds:
+ * <pre>
+ * java src/loadtest/LoadTest.java --slow-path=/api/games/search?q=zel --slow-clients=50 \
+ *     --fast-path=/api/games/search?q=minecarft --fast-clients=50 --duration=20
+ * </pre>
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "base", "http://localhost:8080",
+                "slow-path", "/api/reviews/search?q=great",
+                "slow-clients", "400",
+                "fast-path", "/api/users/1/suggestions",
+                "fast-clients", "20",
+                "warmup", "5",
+                "duration", "30"));
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(pair[0], pair[1]);
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        long warmupNanos = Duration.ofSeconds(Long.parseLong(options.get("warmup"))).toNanos();
+        long runNanos = Duration.ofSeconds(Long.parseLong(options.get("duration"))).toNanos();
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long stopAt = measureFrom + runNanos;
+
+        Group slow = new Group("slow", options.get("base") + options.get("slow-path"));
+        Group fast = new Group("fast", options.get("base") + options.get("fast-path"));
+        int slowClients = Integer.parseInt(options.get("slow-clients"));
+        int fastClients = Integer.parseInt(options.get("fast-clients"));
+
+        CountDownLatch done = new CountDownLatch(slowClients + fastClients);
+        for (int i = 0; i < slowClients + fastClients; i++) {
+            Group group = i < slowClients ? slow : fast;
+            Thread thread = new Thread(() -> {
+                try {
+                    group.run(client, measureFrom, stopAt);
+                } finally {
+                    done.countDown();
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+
+        double seconds = runNanos / 1e9;
+        System.out.printf("%-5s %8s %9s %9s %9s %9s %7s%n", "group", "requests", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        slow.report(seconds);
+        fast.report(seconds);
+    }
+
+    private static final class Group {
+
+        private final String name;
+        private final HttpRequest request;
+        private final List<long[]> latencies = new ArrayList<>();
+        private final AtomicLong errors = new AtomicLong();
+
+        Group(String name, String url) {
+            this.name = name;
+            this.request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(60)).GET().build();
+        }
+
+        void run(HttpClient client, long measureFrom, long stopAt) {
+            long[] samples = new long[1024];
+            int count = 0;
+            while (true) {
+                long sent = System.nanoTime();
+                if (sent >= stopAt) {
+                    break;
+                }
+                boolean ok;
+                try {
+                    ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+                } catch (Exception e) {
+                    ok = false;
+                }
+                long received = System.nanoTime();
+                if (sent < measureFrom || received > stopAt) {
+                    continue;
+                }
+                if (!ok) {
+                    errors.incrementAndGet();
+                    continue;
+                }
+                if (count == samples.length) {
+                    samples = Arrays.copyOf(samples, count * 2);
+                }
+                samples[count++] = received - sent;
+            }
+            synchronized (latencies) {
+                latencies.add(Arrays.copyOf(samples, count));
+            }
+        }
+
+        void report(double seconds) {
+            long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            if (all.length == 0) {
+                System.out.printf("%-5s %8d %9s %9s %9s %9s %7d%n", name, 0, "-", "-", "-", "-", errors.get());
+                return;
+            }
+            System.out.printf("%-5s %8d %9.1f %9.1f %9.1f %9.1f %7d%n", name, all.length, all.length / seconds,
+                    millis(all, 0.50), millis(all, 0.99), all[all.length - 1] / 1e6, errors.get());
+        }
+
+        private static double millis(long[] sorted, double quantile) {
+            return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+        }
+    }
+}
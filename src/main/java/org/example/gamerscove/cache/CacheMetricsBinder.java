@@ -0,0 +1,54 @@
+package org.example.gamerscove.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+// Publishes every MeteredCache's counters under Micrometer's standard cache meter names
+// (cache.gets, cache.evictions, cache.size), tagged with the cache name. The meters read the
+// cache's own counters at scrape time, so lookups pay nothing extra, and read them through
+// counters() rather than stats() so a scrape never walks a cache to purge expired entries.
+@Component
+public class CacheMetricsBinder implements MeterBinder {
+
+    private final List<MeteredCache> caches;
+
+    public CacheMetricsBinder(List<MeteredCache> caches) {
+        this.caches = caches;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (MeteredCache cache : caches) {
+            counter(registry, cache, "cache.gets", "hit", c -> c.counters().getHits());
+            counter(registry, cache, "cache.gets", "miss", c -> c.counters().getMisses());
+            FunctionCounter.builder("cache.evictions", cache, c -> c.counters().getEvictions())
+                    .tag("cache", cache.getName())
+                    .description("Entries evicted to stay within the size bound")
+                    .register(registry);
+            FunctionCounter.builder("cache.expirations", cache, c -> c.counters().getExpirations())
+                    .tag("cache", cache.getName())
+                    .description("Entries dropped after their TTL elapsed")
+                    .register(registry);
+            Gauge.builder("cache.size", cache, c -> c.counters().getSize())
+                    .tag("cache", cache.getName())
+                    .register(registry);
+            Gauge.builder("cache.hit.ratio", cache, c -> c.counters().getHitRate())
+                    .tag("cache", cache.getName())
+                    .register(registry);
+        }
+    }
+
+    private static void counter(MeterRegistry registry, MeteredCache cache, String name, String result,
+                                ToDoubleFunction<MeteredCache> count) {
+        FunctionCounter.builder(name, cache, count)
+                .tag("cache", cache.getName())
+                .tag("result", result)
+                .register(registry);
+    }
+}
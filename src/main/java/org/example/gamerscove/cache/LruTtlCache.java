@@ -0,0 +1,160 @@
+package org.example.gamerscove.cache;
+
+import org.example.gamerscove.domain.dto.CacheStatsDto;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Size-bounded in-process cache. Entries expire {@code ttl} after they are written and,
+ * once {@code maxSize} is reached, the least recently read entry is evicted.
+ * All access goes through one monitor; loaders run outside it so a slow load never
+ * blocks readers of other keys. Because of that, {@link #get} drops a loaded value if any
+ * invalidation happened while it was loading: the load may have read the old state.
+ */
+public class LruTtlCache<K, V> implements MeteredCache {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long writeGeneration;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    public LruTtlCache(String name, int maxSize, Duration ttl) {
+        this(name, maxSize, ttl, System::nanoTime);
+    }
+
+    LruTtlCache(String name, int maxSize, Duration ttl, LongSupplier nanoClock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LruTtlCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.isExpired(nanoClock.getAsLong())) {
+            entries.remove(key);
+            expirations++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    /**
+     * Returns the cached value or loads, stores and returns it. A {@code null} from the
+     * loader is passed through without being cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long generation;
+        synchronized (this) {
+            generation = writeGeneration;
+        }
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            synchronized (this) {
+                if (generation == writeGeneration) {
+                    put(key, loaded);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, nanoClock.getAsLong() + ttlNanos));
+    }
+
+    public synchronized void invalidate(K key) {
+        writeGeneration++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        writeGeneration++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        purgeExpired();
+        return entries.size();
+    }
+
+    @Override
+    public synchronized CacheStatsDto stats() {
+        purgeExpired();
+        return counters();
+    }
+
+    // Skips the purge, so the size still counts expired entries nobody has touched yet
+    @Override
+    public synchronized CacheStatsDto counters() {
+        return CacheStatsDto.builder()
+                .name(name)
+                .size(entries.size())
+                .maxSize(maxSize)
+                .hits(hits)
+                .misses(misses)
+                .evictions(evictions)
+                .expirations(expirations)
+                .build();
+    }
+
+    private void purgeExpired() {
+        long now = nanoClock.getAsLong();
+        Iterator<Entry<V>> it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().isExpired(now)) {
+                it.remove();
+                expirations++;
+            }
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.gamerscove.cache;
+
+import org.example.gamerscove.domain.dto.CacheStatsDto;
+
+/**
+ * An in-process cache that reports its size and hit/miss/eviction counters.
+ */
+public interface MeteredCache {
+
+    String getName();
+
+    CacheStatsDto stats();
+
+    /**
+     * The current counters without any housekeeping, cheap enough for a metrics scrape.
+     * Caches whose {@link #stats()} does more than copy counters should override this.
+     */
+    default CacheStatsDto counters() {
+        return stats();
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.gamerscove.cache;
+
+import org.example.gamerscove.domain.dto.CacheStatsDto;
+import org.example.gamerscove.domain.entities.UserEntity;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of users reachable by id, username and Firebase UID. Each user is
+ * stored once under its id; the username and UID maps only point at that id, and all
+ * three maps change together under one monitor so a lookup by any key sees the same entry.
+ * <p>
+ * Users are mutable entities, so the cache stores its own copy and hands every caller a fresh
+ * one: no caller can change what another reads, and no persistence context ever manages a
+ * cached instance.
+ * <p>
+ * Writers call {@link #invalidate(Long)} after saving. Readers capture
+ * {@link #writeGeneration()} before loading from the database and pass it to
+ * {@link #put(UserEntity, long)}, which drops the value if a write happened meanwhile.
+ */
+public class UserCache implements MeteredCache {
+
+    private final String name;
+    private final int maxSize;
+    private final LinkedHashMap<Long, UserEntity> usersById;
+    private final Map<String, Long> idsByUsername = new HashMap<>();
+    private final Map<String, Long> idsByFirebaseUid = new HashMap<>();
+
+    private long writeGeneration;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public UserCache(String name, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.usersById = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserEntity> eldest) {
+                if (size() > UserCache.this.maxSize) {
+                    removeSecondaryKeys(eldest.getValue());
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public synchronized UserEntity getById(Long id) {
+        return record(usersById.get(id));
+    }
+
+    public synchronized UserEntity getByUsername(String username) {
+        Long id = idsByUsername.get(username);
+        return record(id == null ? null : usersById.get(id));
+    }
+
+    public synchronized UserEntity getByFirebaseUid(String firebaseUid) {
+        Long id = idsByFirebaseUid.get(firebaseUid);
+        return record(id == null ? null : usersById.get(id));
+    }
+
+    public synchronized long writeGeneration() {
+        return writeGeneration;
+    }
+
+    public synchronized void put(UserEntity user, long generation) {
+        if (generation != writeGeneration || user.getId() == null) {
+            return;
+        }
+        UserEntity previous = usersById.put(user.getId(), detachedCopy(user));
+        if (previous != null) {
+            removeSecondaryKeys(previous);
+        }
+        if (user.getUsername() != null) {
+            idsByUsername.put(user.getUsername(), user.getId());
+        }
+        if (user.getFirebaseUid() != null) {
+            idsByFirebaseUid.put(user.getFirebaseUid(), user.getId());
+        }
+    }
+
+    public synchronized void invalidate(Long id) {
+        writeGeneration++;
+        UserEntity removed = usersById.remove(id);
+        if (removed != null) {
+            removeSecondaryKeys(removed);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        writeGeneration++;
+        usersById.clear();
+        idsByUsername.clear();
+        idsByFirebaseUid.clear();
+    }
+
+    @Override
+    public synchronized CacheStatsDto stats() {
+        return CacheStatsDto.builder()
+                .name(name)
+                .size(usersById.size())
+                .maxSize(maxSize)
+                .hits(hits)
+                .misses(misses)
+                .evictions(evictions)
+                .build();
+    }
+
+    // A copy outside any persistence context, sharing no mutable state with the original
+    public static UserEntity detachedCopy(UserEntity user) {
+        String[] platforms = user.getPreferredPlatforms();
+        return UserEntity.builder()
+                .id(user.getId())
+                .firebaseUid(user.getFirebaseUid())
+                .email(user.getEmail())
+                .username(user.getUsername())
+                .avatarUrl(user.getAvatarUrl())
+                .bio(user.getBio())
+                .preferredPlatforms(platforms.length == 0 ? null : String.join(",", platforms))
+                .favoriteGameIds(user.getFavoriteGameIds())
+                .gamertags(new HashMap<>(user.getGamertags()))
+                .gamertagsVisibility(user.getGamertagsVisibility())
+                .build();
+    }
+
+    private UserEntity record(UserEntity user) {
+        if (user == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return detachedCopy(user);
+    }
+
+    private void removeSecondaryKeys(UserEntity user) {
+        // Only drop a mapping that still points at this user; another user may have taken the name since
+        if (user.getUsername() != null) {
+            idsByUsername.remove(user.getUsername(), user.getId());
+        }
+        if (user.getFirebaseUid() != null) {
+            idsByFirebaseUid.remove(user.getFirebaseUid(), user.getId());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.gamerscove.clients;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings for the on-disk IGDB response cache, {@link IgdbResponseCache}.
+ *
+ * @param enabled    stores and replays IGDB responses; off by default
+ * @param directory  where cached responses live, one file per distinct query
+ * @param ttl        entries younger than this are served without contacting IGDB; older ones are revalidated
+ * @param offline    serves cached responses regardless of age and never contacts IGDB; a query that
+ *                   was never cached fails
+ */
+@ConfigurationProperties(prefix = "igdb.cache")
+public record IgdbCacheProperties(Boolean enabled, Path directory, Duration ttl, Boolean offline) {
+
+    public IgdbCacheProperties {
+        enabled = enabled != null && enabled;
+        directory = directory == null ? Path.of("igdb-cache") : directory;
+        ttl = ttl == null ? Duration.ofDays(7) : ttl;
+        offline = offline != null && offline;
+    }
+
+    public static IgdbCacheProperties disabled() {
+        return new IgdbCacheProperties(false, null, null, null);
+    }
+}
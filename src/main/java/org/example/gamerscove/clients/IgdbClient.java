@@ -0,0 +1,281 @@
+package org.example.gamerscove.clients;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.gamerscove.domain.dto.IGDBGameResponseDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Calls the IGDB API over a shared JDK {@link HttpClient}, which pools connections and
+ * negotiates HTTP/2. Every attempt, response body included, is bounded by the configured
+ * timeouts; 429, 5xx and I/O failures are retried with exponential backoff, and a run of
+ * failures opens a circuit breaker so callers fail fast instead of queueing on an endpoint
+ * that is down.
+ * <p>
+ * With {@link IgdbResponseCache} enabled, responses are kept on disk: fresh entries are
+ * served without a request, expired ones are revalidated with their ETag, and an expired
+ * entry is still returned when IGDB cannot be reached.
+ */
+@Component
+public class IgdbClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(IgdbClient.class);
+
+    // IGDB rejects pages larger than this
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String GAME_FIELDS =
+            "fields name,summary,cover.image_id,first_release_date,platforms.name,genres.name,updated_at;";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final IgdbHttpProperties http;
+    private final RequestRateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final IgdbResponseCache responseCache;
+    private final URI gamesEndpoint;
+    private final String clientId;
+    private final String accessToken;
+
+    public IgdbClient(HttpClient igdbHttpClient,
+                      ObjectMapper objectMapper,
+                      IgdbHttpProperties http,
+                      IgdbResponseCache responseCache,
+                      @Value("${igdb.api.url:https://api.igdb.com/v4}") String apiUrl,
+                      @Value("${igdb.client.id:your-client-id}") String clientId,
+                      @Value("${igdb.access.token:your-access-token}") String accessToken,
+                      @Value("${igdb.rate-limit.requests-per-second:4}") double requestsPerSecond) {
+        this.httpClient = igdbHttpClient;
+        this.objectMapper = objectMapper;
+        this.http = http;
+        this.responseCache = responseCache;
+        this.rateLimiter = new RequestRateLimiter(requestsPerSecond);
+        this.circuitBreaker = new CircuitBreaker(http.breakerFailureThreshold(), http.breakerOpenDuration());
+        this.gamesEndpoint = URI.create(apiUrl + "/games");
+        this.clientId = clientId;
+        this.accessToken = accessToken;
+    }
+
+    // Fetches one page of the catalog in stable id order
+    public List<IGDBGameResponseDto> fetchGamesPage(int offset, int limit) {
+        String query = GAME_FIELDS + " sort id asc; limit " + Math.min(limit, MAX_PAGE_SIZE) + "; offset " + offset + ";";
+        return fetchGames(query);
+    }
+
+    /**
+     * Fetches up to {@code limit} games IGDB changed after {@code watermark} (Unix seconds), oldest
+     * change first. Like {@link #fetchGamesUpdatedAt}, the response is never served from the disk
+     * cache, since the same query returns different games as IGDB changes.
+     */
+    public List<IGDBGameResponseDto> fetchGamesUpdatedAfter(long watermark, int limit) {
+        String query = GAME_FIELDS + " where updated_at > " + watermark + "; sort updated_at asc; limit "
+                + Math.min(limit, MAX_PAGE_SIZE) + ";";
+        return fetchGames(query, false);
+    }
+
+    // Pages through the games changed at exactly updatedAt in id order, for ties a single page cannot hold
+    public List<IGDBGameResponseDto> fetchGamesUpdatedAt(long updatedAt, long afterId, int limit) {
+        String query = GAME_FIELDS + " where updated_at = " + updatedAt + " & id > " + afterId + "; sort id asc; limit "
+                + Math.min(limit, MAX_PAGE_SIZE) + ";";
+        return fetchGames(query, false);
+    }
+
+    public List<IGDBGameResponseDto> fetchGames(String query) {
+        return fetchGames(query, true);
+    }
+
+    private List<IGDBGameResponseDto> fetchGames(String query, boolean cacheable) {
+        try {
+            IGDBGameResponseDto[] games = post(gamesEndpoint, query, IGDBGameResponseDto[].class, cacheable);
+            logger.debug("Fetched {} games from IGDB", games != null ? games.length : 0);
+            return games != null ? Arrays.asList(games) : List.of();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while calling IGDB", e);
+        } catch (Exception e) {
+            logger.error("Failed to fetch games from IGDB: {}", e.getMessage());
+            throw new RuntimeException("IGDB API request failed", e);
+        }
+    }
+
+    // In offline mode only cached queries can be answered
+    public boolean isOffline() {
+        return responseCache.isOffline();
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private <T> T post(URI endpoint, String body, Class<T> responseType, boolean cacheable)
+            throws IOException, InterruptedException {
+        String cacheKey = cacheable && responseCache.isEnabled() ? IgdbResponseCache.keyOf(endpoint.toString(), body) : null;
+        IgdbResponseCache.Entry cached = cacheKey == null ? null : responseCache.get(cacheKey).orElse(null);
+        if (cached != null && (cached.fresh() || responseCache.isOffline())) {
+            return read(cached.openBody(), responseType);
+        }
+        if (responseCache.isOffline()) {
+            throw new IllegalStateException("IGDB offline mode: no cached response for this query");
+        }
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(endpoint)
+                .timeout(http.requestTimeout())
+                .header("Client-ID", clientId)
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+        if (cached != null && cached.etag() != null) {
+            builder.header("If-None-Match", cached.etag());
+        }
+        HttpRequest request = builder.build();
+
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.tryAcquire()) {
+                return staleOrThrow(cached, responseType, new IllegalStateException("IGDB circuit breaker is open"));
+            }
+            rateLimiter.acquire();
+
+            Duration retryAfter = null;
+            String failure;
+            try {
+                HttpResponse<byte[]> response = exchange(request);
+                int status = response.statusCode();
+                byte[] payload = decode(response);
+
+                if (status >= 200 && status < 300) {
+                    T result = objectMapper.readValue(payload, responseType);
+                    circuitBreaker.recordSuccess();
+                    if (cacheKey != null) {
+                        responseCache.put(cacheKey, payload, response.headers().firstValue("ETag").orElse(null));
+                    }
+                    return result;
+                }
+                if (status == 304 && cached != null) {
+                    circuitBreaker.recordSuccess();
+                    responseCache.touch(cacheKey);
+                    return read(cached.openBody(), responseType);
+                }
+
+                failure = "HTTP " + status;
+                if (status == 429) {
+                    // Throttling says nothing about IGDB's health, so it does not trip the breaker
+                    circuitBreaker.recordIgnored();
+                    retryAfter = parseRetryAfter(response);
+                } else if (status >= 500) {
+                    circuitBreaker.recordFailure();
+                } else {
+                    // Other 4xx mean the request itself is wrong, so retrying cannot help
+                    circuitBreaker.recordIgnored();
+                    throw new IllegalStateException("IGDB rejected the request with " + failure);
+                }
+            } catch (IOException e) {
+                circuitBreaker.recordFailure();
+                failure = e.toString();
+            }
+
+            if (attempt >= http.maxAttempts()) {
+                return staleOrThrow(cached, responseType,
+                        new IOException("IGDB request failed after " + attempt + " attempts: " + failure));
+            }
+            Duration backoff = retryAfter != null ? min(retryAfter, http.maxBackoff()) : backoff(attempt);
+            logger.warn("IGDB attempt {} failed ({}), retrying in {} ms", attempt, failure, backoff.toMillis());
+            TimeUnit.NANOSECONDS.sleep(backoff.toNanos());
+        }
+    }
+
+    // HttpRequest.timeout only bounds the wait for the response headers, so the whole exchange,
+    // body included, runs under its own deadline. The body is buffered, which also hands the
+    // connection back to the pool whatever the status.
+    private HttpResponse<byte[]> exchange(HttpRequest request) throws IOException, InterruptedException {
+        CompletableFuture<HttpResponse<byte[]>> response =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        try {
+            return response.get(http.requestTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            response.cancel(true);
+            throw new HttpTimeoutException("IGDB response not complete within " + http.requestTimeout());
+        } catch (InterruptedException e) {
+            response.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw new IOException("IGDB request failed", e.getCause());
+        }
+    }
+
+    // An expired cached response beats no response when IGDB is unreachable
+    private <T, E extends Exception> T staleOrThrow(IgdbResponseCache.Entry cached, Class<T> responseType, E error)
+            throws IOException, E {
+        if (cached == null) {
+            throw error;
+        }
+        logger.warn("Serving expired cached IGDB response: {}", error.getMessage());
+        return read(cached.openBody(), responseType);
+    }
+
+    private <T> T read(InputStream body, Class<T> responseType) throws IOException {
+        try (body) {
+            return objectMapper.readValue(body, responseType);
+        }
+    }
+
+    // Exponential backoff with jitter: between half and all of initialBackoff * 2^(attempt - 1), capped
+    private Duration backoff(int attempt) {
+        long ceiling = Math.min(http.maxBackoff().toMillis(), http.initialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        long half = ceiling / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(ceiling - half + 1));
+    }
+
+    private static Duration parseRetryAfter(HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After")
+                .map(value -> {
+                    try {
+                        return Duration.ofSeconds(Long.parseLong(value.trim()));
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                })
+                .orElse(null);
+    }
+
+    private static byte[] decode(HttpResponse<byte[]> response) throws IOException {
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+                .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        if (!gzip) {
+            return response.body();
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.gamerscove.clients;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Transport settings for {@link IgdbClient}.
+ *
+ * @param connectTimeout          limit on opening a connection to IGDB
+ * @param requestTimeout          limit on one attempt, from sending the request to receiving the whole response body
+ * @param maxAttempts             attempts per call, including the first; 429, 5xx and I/O errors are retried
+ * @param initialBackoff          wait before the first retry, doubled for each further retry
+ * @param maxBackoff              cap on the wait between attempts, including a server-sent Retry-After
+ * @param breakerFailureThreshold consecutive failed attempts that open the circuit breaker
+ * @param breakerOpenDuration     how long an open breaker rejects calls before letting a trial call through
+ */
+@ConfigurationProperties(prefix = "igdb.http")
+public record IgdbHttpProperties(Duration connectTimeout, Duration requestTimeout, Integer maxAttempts,
+                                 Duration initialBackoff, Duration maxBackoff,
+                                 Integer breakerFailureThreshold, Duration breakerOpenDuration) {
+
+    public IgdbHttpProperties {
+        connectTimeout = connectTimeout == null ? Duration.ofSeconds(5) : connectTimeout;
+        requestTimeout = requestTimeout == null ? Duration.ofSeconds(30) : requestTimeout;
+        maxAttempts = maxAttempts == null ? 4 : Math.max(1, maxAttempts);
+        initialBackoff = initialBackoff == null ? Duration.ofMillis(500) : initialBackoff;
+        maxBackoff = maxBackoff == null ? Duration.ofSeconds(10) : maxBackoff;
+        breakerFailureThreshold = breakerFailureThreshold == null ? 5 : Math.max(1, breakerFailureThreshold);
+        breakerOpenDuration = breakerOpenDuration == null ? Duration.ofSeconds(30) : breakerOpenDuration;
+    }
+
+    public static IgdbHttpProperties defaults() {
+        return new IgdbHttpProperties(null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,215 @@
+package org.example.gamerscove.clients;
+
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import org.example.gamerscove.cache.MeteredCache;
+import org.example.gamerscove.domain.dto.CacheStatsDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Disk cache of raw IGDB responses, one file per query named by the SHA-256 of the endpoint
+ * and Apicalypse query. Files are memory-mapped on read, so replaying a catalog import costs
+ * page-cache reads rather than heap copies, and the cache survives restarts.
+ * <p>
+ * File layout: magic, format version, stored-at epoch millis, ETag (length-prefixed UTF-8),
+ * body length and the decoded JSON body. Writes go to a temporary file that is atomically
+ * moved into place, so a reader never sees a partial entry.
+ */
+@Component
+@EnableConfigurationProperties(IgdbCacheProperties.class)
+public class IgdbResponseCache implements MeteredCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(IgdbResponseCache.class);
+
+    private static final int MAGIC = 0x49474443; // "IGDC"
+    private static final int VERSION = 1;
+    private static final int STORED_AT_POSITION = 8;
+    private static final String SUFFIX = ".igdb";
+
+    private final IgdbCacheProperties properties;
+    private final Clock clock;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    @Autowired
+    public IgdbResponseCache(IgdbCacheProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    IgdbResponseCache(IgdbCacheProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        if (properties.enabled()) {
+            try {
+                Files.createDirectories(properties.directory());
+                try (Stream<Path> files = Files.list(properties.directory())) {
+                    size.set((int) files.filter(file -> file.toString().endsWith(SUFFIX)).count());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot open IGDB cache directory " + properties.directory(), e);
+            }
+            logger.info("IGDB response cache at {} ({} entries, ttl {}, offline {})",
+                    properties.directory().toAbsolutePath(), size.get(), properties.ttl(), properties.offline());
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    public boolean isOffline() {
+        return properties.enabled() && properties.offline();
+    }
+
+    public static String keyOf(String endpoint, String query) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(endpoint.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(query.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // Counts a hit when the entry can be served as is (fresh, or any age in offline mode)
+    public Optional<Entry> get(String key) {
+        Path file = fileFor(key);
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        } catch (IOException e) {
+            logger.warn("Cannot read IGDB cache entry {}: {}", file, e.getMessage());
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        Entry entry = decode(mapped);
+        if (entry == null) {
+            logger.warn("Ignoring corrupt IGDB cache entry {}", file);
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        if (entry.fresh() || properties.offline()) {
+            hits.incrementAndGet();
+        } else {
+            expirations.incrementAndGet();
+        }
+        return Optional.of(entry);
+    }
+
+    public void put(String key, byte[] body, String etag) {
+        byte[] etagBytes = etag == null ? new byte[0] : etag.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(4 + 4 + 8 + 2 + etagBytes.length + 4 + body.length);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(clock.millis())
+                .putShort((short) etagBytes.length).put(etagBytes)
+                .putInt(body.length).put(body)
+                .flip();
+
+        Path file = fileFor(key);
+        try {
+            Path temp = Files.createTempFile(properties.directory(), key, ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            boolean existed = Files.exists(file);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (!existed) {
+                size.incrementAndGet();
+            }
+        } catch (IOException e) {
+            // The cache is an optimization; a failed write only means the next call goes to IGDB
+            logger.warn("Cannot write IGDB cache entry {}: {}", file, e.getMessage());
+        }
+    }
+
+    // Restarts an entry's TTL after IGDB confirmed it with 304 Not Modified
+    public void touch(String key) {
+        try (FileChannel channel = FileChannel.open(fileFor(key), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).putLong(0, clock.millis()), STORED_AT_POSITION);
+        } catch (IOException e) {
+            logger.warn("Cannot refresh IGDB cache entry {}: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "igdb-responses";
+    }
+
+    @Override
+    public CacheStatsDto stats() {
+        return CacheStatsDto.builder()
+                .name(getName())
+                .size(size.get())
+                .hits(hits.get())
+                .misses(misses.get())
+                .expirations(expirations.get())
+                .build();
+    }
+
+    private Path fileFor(String key) {
+        return properties.directory().resolve(key + SUFFIX);
+    }
+
+    private Entry decode(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            long storedAt = buffer.getLong();
+            byte[] etag = new byte[buffer.getShort()];
+            buffer.get(etag);
+            int bodyLength = buffer.getInt();
+            if (bodyLength != buffer.remaining()) {
+                return null;
+            }
+            boolean fresh = clock.millis() - storedAt < properties.ttl().toMillis();
+            return new Entry(buffer.slice(), etag.length == 0 ? null : new String(etag, StandardCharsets.UTF_8), fresh);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A cached response. The body is a view of the mapped file.
+     */
+    public record Entry(ByteBuffer body, String etag, boolean fresh) {
+
+        public InputStream openBody() {
+            return new ByteBufferBackedInputStream(body.duplicate());
+        }
+    }
+}
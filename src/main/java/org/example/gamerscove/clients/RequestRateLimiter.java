@@ -0,0 +1,35 @@
+package org.example.gamerscove.clients;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces calls evenly so that no more than {@code permitsPerSecond} start in any one second.
+ * Each caller reserves the next free slot and sleeps until it arrives, so concurrent
+ * callers queue up fairly instead of bursting.
+ */
+public class RequestRateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeSlot;
+
+    public RequestRateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.nextFreeSlot = System.nanoTime();
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextFreeSlot);
+            nextFreeSlot = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.gamerscove.config;
+
+import org.example.gamerscove.cache.LruTtlCache;
+import org.example.gamerscove.cache.UserCache;
+import org.example.gamerscove.domain.entities.GameEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public LruTtlCache<Long, GameEntity> gameCache(@Value("${cache.games.max-size:10000}") int maxSize,
+                                                   @Value("${cache.games.ttl:PT10M}") Duration ttl) {
+        return new LruTtlCache<>("games", maxSize, ttl);
+    }
+
+    @Bean
+    public UserCache userCache(@Value("${cache.users.max-size:10000}") int maxSize) {
+        return new UserCache("users", maxSize);
+    }
+}
@@ -6,6 +6,8 @@ import org.example.gamerscove.domain.entities.UserEntity;
 import org.example.gamerscove.repositories.GameRepository;
 import org.example.gamerscove.repositories.ReviewRepository;
 import org.example.gamerscove.repositories.UserRepository;
+import org.example.gamerscove.services.GameService;
+import org.example.gamerscove.services.ReviewService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
@@ -25,11 +27,17 @@ public class DataInitialization implements CommandLineRunner {
     private final UserRepository userRepository;
     private final GameRepository gameRepository;
     private final ReviewRepository reviewRepository;
+    private final ReviewService reviewService;
+    private final GameService gameService;
 
-    public DataInitialization(UserRepository userRepository, GameRepository gameRepository, ReviewRepository reviewRepository) {
+    public DataInitialization(UserRepository userRepository, GameRepository gameRepository,
+                              ReviewRepository reviewRepository, ReviewService reviewService,
+                              GameService gameService) {
         this.userRepository = userRepository;
         this.gameRepository = gameRepository;
         this.reviewRepository = reviewRepository;
+        this.reviewService = reviewService;
+        this.gameService = gameService;
     }
 
     @Override
@@ -73,7 +81,7 @@ public class DataInitialization implements CommandLineRunner {
                 .build();
 
         user1.setPreferredPlatforms(new String[]{"Nintendo Switch", "PC"});
-        user1.setFavoriteGameIds(new Long[]{1L, 2L});
+        user1.setFavoriteGameIds(new long[]{1L, 2L});
 
         Map<String, String> user1Gamertags = new HashMap<>();
         user1Gamertags.put("Nintendo", "zelda_speedrun");
@@ -94,7 +102,7 @@ public class DataInitialization implements CommandLineRunner {
                 .build();
 
         user2.setPreferredPlatforms(new String[]{"PC", "PlayStation"});
-        user2.setFavoriteGameIds(new Long[]{1L, 2L});
+        user2.setFavoriteGameIds(new long[]{1L, 2L});
 
         Map<String, String> user2Gamertags = new HashMap<>();
         user2Gamertags.put("Steam", "fps_master_2024");
@@ -115,7 +123,7 @@ public class DataInitialization implements CommandLineRunner {
                 .build();
 
         user3.setPreferredPlatforms(new String[]{"PlayStation", "Nintendo Switch", "PC"});
-        user3.setFavoriteGameIds(new Long[]{1L, 2L});
+        user3.setFavoriteGameIds(new long[]{1L, 2L});
 
         Map<String, String> user3Gamertags = new HashMap<>();
         user3Gamertags.put("PSN", "rpg_lover_final");
@@ -137,11 +145,11 @@ public class DataInitialization implements CommandLineRunner {
                 .description("better than dying light 2")
                 .build();
 
-        game1.setGenres(new String[]{"zombie", "first-person", "parkour"});
+        game1.setGenreNames(new String[]{"zombie", "first-person", "parkour"});
         game1.setReleaseDate(releaseDate);
-        game1.setPlatforms(new String[]{"Nintendo Switch", "PC"});
+        game1.setPlatformNames(new String[]{"Nintendo Switch", "PC"});
 
-        gameRepository.save(game1);
+        gameService.createGameEntity(game1);
         logger.info("Created game: " + game1.getTitle());
 
         GameEntity game2 = GameEntity.builder()
@@ -151,11 +159,11 @@ public class DataInitialization implements CommandLineRunner {
                 .description("also better than dyling light 2")
                 .build();
 
-        game2.setGenres(new String[]{"sandbox", "survival", "fun"});
+        game2.setGenreNames(new String[]{"sandbox", "survival", "fun"});
         game2.setReleaseDate(releaseDate);
-        game2.setPlatforms(new String[]{"Nintendo Switch", "PC"});
+        game2.setPlatformNames(new String[]{"Nintendo Switch", "PC"});
 
-        gameRepository.save(game2);
+        gameService.createGameEntity(game2);
         logger.info("Created game: " + game2.getTitle());
     }
 
@@ -180,7 +188,7 @@ public class DataInitialization implements CommandLineRunner {
                 "The atmosphere is intense and the open-world design gives you plenty of freedom to explore. " +
                 "My only complaint is that some missions feel a bit repetitive, but overall it's a fantastic game that I highly recommend!");
 
-        reviewRepository.save(review1);
+        reviewService.createReviewEntity(review1);
         logger.info("Created review: " + user1.get().getUsername() + " reviewed " + game1.get().getTitle() + " with rating " + review1.getRating() + "/10");
 
         // Review 2: fps_master reviews Minecraft
@@ -193,7 +201,7 @@ public class DataInitialization implements CommandLineRunner {
                 "Whether you're playing solo or with friends, there's always something new to discover. " +
                 "The regular updates keep the game fresh and exciting. A must-play for gamers of all ages!");
 
-        reviewRepository.save(review2);
+        reviewService.createReviewEntity(review2);
         logger.info("Created review: " + user2.get().getUsername() + " reviewed " + game2.get().getTitle() + " with rating " + review2.getRating() + "/10");
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package org.example.gamerscove.config;
+
+import org.example.gamerscove.repositories.GameRatingStatsRepository;
+import org.example.gamerscove.repositories.ReviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// Builds game_rating_stats from existing reviews the first time the table is introduced
+@Component
+public class RatingStatsInitialization implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatingStatsInitialization.class);
+    private final GameRatingStatsRepository ratingStatsRepository;
+    private final ReviewRepository reviewRepository;
+
+    public RatingStatsInitialization(GameRatingStatsRepository ratingStatsRepository, ReviewRepository reviewRepository) {
+        this.ratingStatsRepository = ratingStatsRepository;
+        this.reviewRepository = reviewRepository;
+    }
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        if (ratingStatsRepository.count() == 0 && reviewRepository.count() > 0) {
+            int games = ratingStatsRepository.backfillFromReviews();
+            logger.info("Backfilled rating stats for {} games", games);
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package org.example.gamerscove.config;
 
+import org.example.gamerscove.clients.IgdbHttpProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
 
 @Configuration
+@EnableConfigurationProperties(IgdbHttpProperties.class)
 public class RestConfig {
 
+    // One client per upstream so its connection pool and HTTP/2 sessions are shared by all callers
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public HttpClient igdbHttpClient(IgdbHttpProperties properties) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package org.example.gamerscove.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background jobs (@Scheduled) run on Spring's single scheduler thread; long jobs hand off to their own pools
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,25 @@
+package org.example.gamerscove.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ThreadFactory;
+
+// Threads for the app's own blocking worker pools. They follow spring.threads.virtual.enabled, the
+// switch that also moves Tomcat request handling onto virtual threads; it only takes effect on Java 21+.
+@Configuration
+public class ThreadingConfig {
+
+    // IGDB page fetches spend nearly all their time waiting on HTTP and the rate limiter
+    @Bean
+    public ThreadFactory igdbFetchThreadFactory(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor("igdb-fetch-").getVirtualThreadFactory();
+        }
+        return new CustomizableThreadFactory("igdb-fetch-");
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.gamerscove.config.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Writes one summary line per request (route, status, duration) in place of per-method banner
+// logs. Ordinary requests are sampled per route; server errors and slow requests are always
+// logged. The fields go out as key-value pairs, so the structured (JSON) console format in the
+// prod profile emits them as separate properties.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(RequestLogProperties.class)
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestLogFilter.class);
+    private static final String UNMATCHED_ROUTE = "unmatched";
+
+    private final RequestLogProperties properties;
+    private final long slowThresholdNanos;
+
+    public RequestLogFilter(RequestLogProperties properties) {
+        this.properties = properties;
+        this.slowThresholdNanos = properties.slowThreshold().toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!properties.enabled() || !logger.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String route = pattern != null ? pattern.toString() : UNMATCHED_ROUTE;
+
+            if (status >= 500 || elapsed >= slowThresholdNanos || sampled(route)) {
+                long durationMs = elapsed / 1_000_000;
+                logger.atInfo()
+                        .addKeyValue("method", request.getMethod())
+                        .addKeyValue("route", route)
+                        .addKeyValue("path", request.getRequestURI())
+                        .addKeyValue("status", status)
+                        .addKeyValue("durationMs", durationMs)
+                        .log("{} {} {} {}ms", request.getMethod(), request.getRequestURI(), status, durationMs);
+            }
+        }
+    }
+
+    private boolean sampled(String route) {
+        double rate = properties.sampleRateFor(route);
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+}
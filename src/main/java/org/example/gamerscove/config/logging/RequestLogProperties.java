@@ -0,0 +1,30 @@
+package org.example.gamerscove.config.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Settings for the one-line-per-request log written by {@link RequestLogFilter}.
+ *
+ * @param enabled              turns the request log off entirely
+ * @param sampleRate           fraction (0..1) of ordinary requests that are logged
+ * @param endpointSampleRates  overrides keyed by the matched route pattern, e.g. {@code /api/games/{gameId}}
+ * @param slowThreshold        requests at least this slow are always logged
+ */
+@ConfigurationProperties(prefix = "request-log")
+public record RequestLogProperties(Boolean enabled, Double sampleRate, Map<String, Double> endpointSampleRates,
+                                   Duration slowThreshold) {
+
+    public RequestLogProperties {
+        enabled = enabled == null || enabled;
+        sampleRate = sampleRate == null ? 1.0 : sampleRate;
+        endpointSampleRates = endpointSampleRates == null ? Map.of() : Map.copyOf(endpointSampleRates);
+        slowThreshold = slowThreshold == null ? Duration.ofSeconds(1) : slowThreshold;
+    }
+
+    public double sampleRateFor(String route) {
+        return endpointSampleRates.getOrDefault(route, sampleRate);
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.gamerscove.config.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * One versioned, forward-only schema/data change, applied once per database by
+ * {@link SchemaMigrationRunner}. Hibernate's ddl-auto still creates new tables and columns;
+ * migrations cover what it cannot do: moving existing data and dropping old columns.
+ * <p>
+ * Migrations run inside a transaction after Hibernate has updated the schema and must
+ * tolerate a fresh database where the legacy objects they migrate never existed.
+ */
+public interface SchemaMigration {
+
+    int getVersion();
+
+    String getDescription();
+
+    void migrate(JdbcTemplate jdbcTemplate);
+}
@@ -0,0 +1,75 @@
+package org.example.gamerscove.config.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Applies pending SchemaMigrations in version order before any other startup work, recording
+// each one in schema_migrations. A transaction-scoped advisory lock keeps two instances
+// starting together from applying the same migration twice.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SchemaMigrationRunner implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaMigrationRunner.class);
+    private static final long MIGRATION_LOCK_KEY = 0x6761_6d65_7273L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final List<SchemaMigration> migrations;
+
+    public SchemaMigrationRunner(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                 List<SchemaMigration> migrations) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.migrations = migrations.stream()
+                .sorted(Comparator.comparingInt(SchemaMigration::getVersion))
+                .toList();
+    }
+
+    @Override
+    public void run(String... args) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS schema_migrations (" +
+                "version integer PRIMARY KEY, " +
+                "description varchar(200) NOT NULL, " +
+                "applied_at timestamp NOT NULL DEFAULT now())");
+
+        Set<Integer> versions = new HashSet<>();
+        for (SchemaMigration migration : migrations) {
+            if (!versions.add(migration.getVersion())) {
+                throw new IllegalStateException("Duplicate schema migration version " + migration.getVersion());
+            }
+        }
+
+        for (SchemaMigration migration : migrations) {
+            transactionTemplate.executeWithoutResult(status -> apply(migration));
+        }
+    }
+
+    private void apply(SchemaMigration migration) {
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)", Object.class, MIGRATION_LOCK_KEY);
+
+        Integer applied = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM schema_migrations WHERE version = ?", Integer.class, migration.getVersion());
+        if (applied != null && applied > 0) {
+            return;
+        }
+
+        logger.info("Applying schema migration {}: {}", migration.getVersion(), migration.getDescription());
+        long start = System.currentTimeMillis();
+        migration.migrate(jdbcTemplate);
+        jdbcTemplate.update("INSERT INTO schema_migrations (version, description) VALUES (?, ?)",
+                migration.getVersion(), migration.getDescription());
+        logger.info("Schema migration {} applied in {} ms", migration.getVersion(), System.currentTimeMillis() - start);
+    }
+}
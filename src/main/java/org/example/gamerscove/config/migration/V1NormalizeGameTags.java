@@ -0,0 +1,57 @@
+package org.example.gamerscove.config.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Moves the comma-joined games.platforms / games.genres TEXT columns into the platform and
+// genre dictionaries and their join tables, then drops the old columns
+@Component
+public class V1NormalizeGameTags implements SchemaMigration {
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Normalize game platforms and genres into join tables";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        migrateColumn(jdbcTemplate, "platforms", "platforms", "game_platforms", "platform_id");
+        migrateColumn(jdbcTemplate, "genres", "genres", "game_genres", "genre_id");
+    }
+
+    private void migrateColumn(JdbcTemplate jdbcTemplate, String legacyColumn, String dictionaryTable,
+                               String joinTable, String tagColumn) {
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM information_schema.columns " +
+                "WHERE table_schema = current_schema() AND table_name = 'games' AND column_name = ?",
+                Integer.class, legacyColumn);
+        if (exists == null || exists == 0) {
+            return;
+        }
+
+        // Same normalization as TagEntity.keyOf: trimmed, lower-cased key; first spelling wins the display name
+        jdbcTemplate.execute(String.format(
+                "INSERT INTO %2$s (name, name_key) " +
+                "SELECT DISTINCT ON (lower(btrim(t.name))) btrim(t.name), lower(btrim(t.name)) " +
+                "FROM games g CROSS JOIN LATERAL unnest(string_to_array(g.%1$s, ',')) AS t(name) " +
+                "WHERE btrim(t.name) <> '' " +
+                "ORDER BY lower(btrim(t.name)), g.id " +
+                "ON CONFLICT (name_key) DO NOTHING",
+                legacyColumn, dictionaryTable));
+
+        jdbcTemplate.execute(String.format(
+                "INSERT INTO %3$s (game_id, %4$s) " +
+                "SELECT DISTINCT g.id, d.id " +
+                "FROM games g CROSS JOIN LATERAL unnest(string_to_array(g.%1$s, ',')) AS t(name) " +
+                "JOIN %2$s d ON d.name_key = lower(btrim(t.name)) " +
+                "ON CONFLICT DO NOTHING",
+                legacyColumn, dictionaryTable, joinTable, tagColumn));
+
+        jdbcTemplate.execute("ALTER TABLE games DROP COLUMN " + legacyColumn);
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.gamerscove.config.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Adds a stored tsvector over review content and its GIN index for keyword search. The column is
+// generated by Postgres, so it stays in sync with every insert and update and is not mapped
+// on ReviewEntity; Hibernate's ddl-auto leaves unmapped columns alone.
+@Component
+public class V2AddReviewSearchVector implements SchemaMigration {
+
+    @Override
+    public int getVersion() {
+        return 2;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Add full-text search vector to reviews";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("ALTER TABLE reviews ADD COLUMN IF NOT EXISTS search_vector tsvector " +
+                "GENERATED ALWAYS AS (to_tsvector('english', content)) STORED");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_reviews_search_vector ON reviews USING GIN (search_vector)");
+    }
+}
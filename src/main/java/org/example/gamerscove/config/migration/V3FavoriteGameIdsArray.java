@@ -0,0 +1,41 @@
+package org.example.gamerscove.config.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Converts users.favorite_game_ids from a comma-joined TEXT column to a sorted, duplicate-free
+// bigint[] and adds the GIN index that makes "which users favorited game X" an indexed lookup
+@Component
+public class V3FavoriteGameIdsArray implements SchemaMigration {
+
+    @Override
+    public int getVersion() {
+        return 3;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Store favorite game ids as a bigint array";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        String dataType = jdbcTemplate.query(
+                "SELECT data_type FROM information_schema.columns " +
+                "WHERE table_schema = current_schema() AND table_name = 'users' AND column_name = 'favorite_game_ids'",
+                rs -> rs.next() ? rs.getString(1) : null);
+
+        if ("text".equals(dataType)) {
+            jdbcTemplate.execute("ALTER TABLE users RENAME COLUMN favorite_game_ids TO favorite_game_ids_csv");
+            jdbcTemplate.execute("ALTER TABLE users ADD COLUMN favorite_game_ids bigint[] DEFAULT '{}'");
+            jdbcTemplate.execute("UPDATE users u SET favorite_game_ids = coalesce((" +
+                    "SELECT array_agg(DISTINCT CAST(btrim(t.id) AS bigint) ORDER BY CAST(btrim(t.id) AS bigint)) " +
+                    "FROM unnest(string_to_array(u.favorite_game_ids_csv, ',')) AS t(id) " +
+                    "WHERE btrim(t.id) ~ '^[0-9]+$'), '{}')");
+            jdbcTemplate.execute("ALTER TABLE users DROP COLUMN favorite_game_ids_csv");
+        }
+
+        jdbcTemplate.execute("UPDATE users SET favorite_game_ids = '{}' WHERE favorite_game_ids IS NULL");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_favorite_game_ids ON users USING GIN (favorite_game_ids)");
+    }
+}
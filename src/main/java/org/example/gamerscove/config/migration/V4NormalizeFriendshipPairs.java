@@ -0,0 +1,43 @@
+package org.example.gamerscove.config.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Backfills the normalized (user_low_id, user_high_id) pair on existing friendships, keeps one row
+// per pair (accepted or blocked rows win over pending/declined ones, then the oldest), and makes
+// the pair unique. Hibernate creates the columns and indexes itself on a fresh database, but it
+// cannot add NOT NULL columns or a unique index to a table that already has rows.
+@Component
+public class V4NormalizeFriendshipPairs implements SchemaMigration {
+
+    @Override
+    public int getVersion() {
+        return 4;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Normalize friendship pairs";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("ALTER TABLE friendships ADD COLUMN IF NOT EXISTS user_low_id bigint");
+        jdbcTemplate.execute("ALTER TABLE friendships ADD COLUMN IF NOT EXISTS user_high_id bigint");
+        jdbcTemplate.execute("UPDATE friendships SET user_low_id = least(requester_id, receiver_id), " +
+                "user_high_id = greatest(requester_id, receiver_id) " +
+                "WHERE user_low_id IS NULL OR user_high_id IS NULL");
+
+        jdbcTemplate.execute("DELETE FROM friendships f USING (" +
+                "SELECT id, row_number() OVER (PARTITION BY user_low_id, user_high_id " +
+                "ORDER BY (status IN ('ACCEPTED', 'BLOCKED')) DESC, created_at, id) AS rank " +
+                "FROM friendships) ranked " +
+                "WHERE f.id = ranked.id AND ranked.rank > 1");
+
+        jdbcTemplate.execute("ALTER TABLE friendships ALTER COLUMN user_low_id SET NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE friendships ALTER COLUMN user_high_id SET NOT NULL");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS uk_friendships_pair ON friendships (user_low_id, user_high_id)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_friendships_low_status ON friendships (user_low_id, status, user_high_id)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_friendships_high_status ON friendships (user_high_id, status, user_low_id)");
+    }
+}
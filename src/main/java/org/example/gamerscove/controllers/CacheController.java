@@ -0,0 +1,26 @@
+package org.example.gamerscove.controllers;
+
+import org.example.gamerscove.cache.MeteredCache;
+import org.example.gamerscove.domain.dto.CacheStatsDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+public class CacheController {
+
+    private final List<MeteredCache> caches;
+
+    public CacheController(List<MeteredCache> caches) {
+        this.caches = caches;
+    }
+
+    @GetMapping(path = "/cache/stats")
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(caches.stream().map(MeteredCache::stats).toList());
+    }
+}
@@ -0,0 +1,205 @@
+package org.example.gamerscove.controllers;
+
+import org.example.gamerscove.domain.dto.FriendDto;
+import org.example.gamerscove.domain.dto.FriendSuggestionDto;
+import org.example.gamerscove.domain.dto.FriendshipDto;
+import org.example.gamerscove.domain.entities.FriendshipEntity;
+import org.example.gamerscove.mappers.Mapper;
+import org.example.gamerscove.services.FriendSuggestionService;
+import org.example.gamerscove.services.FriendshipService;
+import org.example.gamerscove.services.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api")
+public class FriendshipController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FriendshipController.class);
+    private FriendshipService friendshipService;
+    private UserService userService;
+    private Mapper<FriendshipEntity, FriendshipDto> friendshipMapper;
+    private FriendSuggestionService friendSuggestionService;
+
+    public FriendshipController(FriendshipService friendshipService, UserService userService,
+                                Mapper<FriendshipEntity, FriendshipDto> friendshipMapper,
+                                FriendSuggestionService friendSuggestionService) {
+        this.friendshipService = friendshipService;
+        this.userService = userService;
+        this.friendshipMapper = friendshipMapper;
+        this.friendSuggestionService = friendSuggestionService;
+    }
+
+    @GetMapping(path = "/users/{userId}/friends")
+    public ResponseEntity<List<FriendDto>> getFriends(@PathVariable("userId") Long userId) {
+        logger.debug("Fetching friends for user ID: {}", userId);
+
+        if (userService.findById(userId).isEmpty()) {
+            logger.warn("User not found with ID: {}", userId);
+            return ResponseEntity.notFound().build();
+        }
+
+        List<FriendDto> friends = friendshipService.findFriends(userId);
+        logger.debug("Found {} friends for user ID: {}", friends.size(), userId);
+        return ResponseEntity.ok(friends);
+    }
+
+    @GetMapping(path = "/users/{userId}/friends/requests")
+    public ResponseEntity<List<FriendshipDto>> getPendingRequests(@PathVariable("userId") Long userId) {
+        logger.debug("Fetching pending friend requests for user ID: {}", userId);
+
+        if (userService.findById(userId).isEmpty()) {
+            logger.warn("User not found with ID: {}", userId);
+            return ResponseEntity.notFound().build();
+        }
+
+        List<FriendshipDto> requests = friendshipService.findPendingRequests(userId).stream()
+                .map(friendshipMapper::mapTo)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(requests);
+    }
+
+    @GetMapping(path = "/users/{userId}/friends/mutual/{otherUserId}")
+    public ResponseEntity<List<FriendDto>> getMutualFriends(@PathVariable("userId") Long userId,
+                                                            @PathVariable("otherUserId") Long otherUserId) {
+        logger.debug("Fetching mutual friends of user ID: {} and user ID: {}", userId, otherUserId);
+
+        if (!usersExist(userId, otherUserId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(friendshipService.findMutualFriends(userId, otherUserId));
+    }
+
+    // People you may know: precomputed in the background, so this is a map lookup
+    @GetMapping(path = "/users/{userId}/suggestions")
+    public ResponseEntity<List<FriendSuggestionDto>> getFriendSuggestions(@PathVariable("userId") Long userId,
+                                                                          @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        logger.debug("Fetching friend suggestions for user ID: {}", userId);
+
+        if (limit <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (userService.findById(userId).isEmpty()) {
+            logger.warn("User not found with ID: {}", userId);
+            return ResponseEntity.notFound().build();
+        }
+
+        try {
+            return ResponseEntity.ok(friendSuggestionService.getSuggestions(userId, limit));
+        } catch (IllegalStateException e) {
+            logger.warn("Friend suggestions unavailable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    // The edge between two users, whatever its status; 404 when they have none
+    @GetMapping(path = "/users/{userId}/friends/{otherUserId}")
+    public ResponseEntity<FriendshipDto> getFriendship(@PathVariable("userId") Long userId,
+                                                       @PathVariable("otherUserId") Long otherUserId) {
+        logger.debug("Fetching friendship between user ID: {} and user ID: {}", userId, otherUserId);
+
+        return friendshipService.findFriendship(userId, otherUserId)
+                .map(friendship -> ResponseEntity.ok(friendshipMapper.mapTo(friendship)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Sends a friend request; if the other user already asked, this accepts it
+    @PostMapping(path = "/users/{userId}/friends/{otherUserId}")
+    public ResponseEntity<FriendshipDto> sendFriendRequest(@PathVariable("userId") Long userId,
+                                                           @PathVariable("otherUserId") Long otherUserId) {
+        logger.debug("Sending friend request from user ID: {} to user ID: {}", userId, otherUserId);
+
+        if (!usersExist(userId, otherUserId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return changeFriendship(() -> friendshipService.sendRequest(userId, otherUserId));
+    }
+
+    @PostMapping(path = "/users/{userId}/friends/{otherUserId}/accept")
+    public ResponseEntity<FriendshipDto> acceptFriendRequest(@PathVariable("userId") Long userId,
+                                                             @PathVariable("otherUserId") Long otherUserId) {
+        logger.debug("User ID: {} accepting friend request from user ID: {}", userId, otherUserId);
+        return changeFriendship(() -> friendshipService.acceptRequest(userId, otherUserId));
+    }
+
+    @PostMapping(path = "/users/{userId}/friends/{otherUserId}/decline")
+    public ResponseEntity<FriendshipDto> declineFriendRequest(@PathVariable("userId") Long userId,
+                                                              @PathVariable("otherUserId") Long otherUserId) {
+        logger.debug("User ID: {} declining friend request from user ID: {}", userId, otherUserId);
+        return changeFriendship(() -> friendshipService.declineRequest(userId, otherUserId));
+    }
+
+    // Unfriends, or withdraws a request that has not been answered yet
+    @DeleteMapping(path = "/users/{userId}/friends/{otherUserId}")
+    public ResponseEntity<Void> removeFriend(@PathVariable("userId") Long userId,
+                                             @PathVariable("otherUserId") Long otherUserId) {
+        logger.debug("Removing friendship between user ID: {} and user ID: {}", userId, otherUserId);
+        return removeFriendship(() -> friendshipService.removeFriendship(userId, otherUserId));
+    }
+
+    @PostMapping(path = "/users/{userId}/blocks/{otherUserId}")
+    public ResponseEntity<FriendshipDto> blockUser(@PathVariable("userId") Long userId,
+                                                   @PathVariable("otherUserId") Long otherUserId) {
+        logger.debug("User ID: {} blocking user ID: {}", userId, otherUserId);
+
+        if (!usersExist(userId, otherUserId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return changeFriendship(() -> friendshipService.blockUser(userId, otherUserId));
+    }
+
+    @DeleteMapping(path = "/users/{userId}/blocks/{otherUserId}")
+    public ResponseEntity<Void> unblockUser(@PathVariable("userId") Long userId,
+                                            @PathVariable("otherUserId") Long otherUserId) {
+        logger.debug("User ID: {} unblocking user ID: {}", userId, otherUserId);
+        return removeFriendship(() -> friendshipService.unblockUser(userId, otherUserId));
+    }
+
+    private boolean usersExist(Long userId, Long otherUserId) {
+        for (Long id : List.of(userId, otherUserId)) {
+            if (userService.findById(id).isEmpty()) {
+                logger.warn("User not found with ID: {}", id);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Both users racing to create the same pair trips the unique pair index; that is a conflict, not a 400
+    private ResponseEntity<FriendshipDto> changeFriendship(Supplier<FriendshipEntity> change) {
+        try {
+            return ResponseEntity.ok(friendshipMapper.mapTo(change.get()));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid friendship request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (NoSuchElementException e) {
+            logger.warn("Friendship not found: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException | DataIntegrityViolationException e) {
+            logger.warn("Friendship change rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    private ResponseEntity<Void> removeFriendship(Runnable removal) {
+        try {
+            removal.run();
+            return ResponseEntity.noContent().build();
+        } catch (NoSuchElementException e) {
+            logger.warn("Friendship not found: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            logger.warn("Friendship change rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
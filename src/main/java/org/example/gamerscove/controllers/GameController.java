@@ -1,27 +1,33 @@
 package org.example.gamerscove.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import org.example.gamerscove.domain.dto.GameDto;
-import org.example.gamerscove.domain.dto.IGDBGameResponseDto;
+import org.example.gamerscove.domain.dto.IgdbImportStatusDto;
+import org.example.gamerscove.domain.dto.IgdbSyncStatusDto;
 import org.example.gamerscove.domain.entities.GameEntity;
+import org.example.gamerscove.domain.entities.GameRatingStatsEntity;
+import org.example.gamerscove.domain.pagination.CursorPage;
+import org.example.gamerscove.domain.pagination.FacetedPage;
 import org.example.gamerscove.mappers.Mapper;
 import org.example.gamerscove.services.GameService;
+import org.example.gamerscove.services.IgdbImportService;
+import org.example.gamerscove.services.IgdbSyncService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
-import com.fasterxml.jackson.annotation.JsonProperty;
 
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneId;
-import java.util.Arrays;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api")
@@ -31,32 +37,30 @@ public class GameController {
 
     private final GameService gameService;
     private final Mapper<GameEntity, GameDto> gameMapper;
-    private final RestTemplate restTemplate;
+    private final IgdbImportService igdbImportService;
+    private final IgdbSyncService igdbSyncService;
+    private final ObjectMapper objectMapper;
 
-    // IGDB API Configuration
-    @Value("${igdb.client.id:your-client-id}")
-    private String igdbClientId;
+    private static final int NDJSON_PAGE_SIZE = 200;
 
-    @Value("${igdb.access.token:your-access-token}")
-    private String igdbAccessToken;
-
-    private static final String IGDB_GAMES_ENDPOINT = "https://api.igdb.com/v4/games";
-
-    public GameController(GameService gameService, Mapper<GameEntity, GameDto> gameMapper, RestTemplate restTemplate) {
+    public GameController(GameService gameService, Mapper<GameEntity, GameDto> gameMapper,
+                          IgdbImportService igdbImportService, IgdbSyncService igdbSyncService,
+                          ObjectMapper objectMapper) {
         this.gameService = gameService;
         this.gameMapper = gameMapper;
-        this.restTemplate = restTemplate;
+        this.igdbImportService = igdbImportService;
+        this.igdbSyncService = igdbSyncService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping(path = "/games/{gameId}")
     public ResponseEntity<GameDto> getGameById(@PathVariable("gameId") Long gameId) {
-        logger.info("=== GET /api/games/{} ===", gameId);
-
         Optional<GameEntity> game = gameService.findById(gameId);
 
         if (game.isPresent()) {
             GameDto gameDto = gameMapper.mapTo(game.get());
-            logger.info("Found game: {}", gameDto.getTitle());
+            attachRatingStats(List.of(gameDto));
+            logger.debug("Found game: {}", gameDto.getTitle());
             return ResponseEntity.ok(gameDto);
         } else {
             logger.warn("Game not found with ID: {}", gameId);
@@ -65,149 +69,149 @@ public class GameController {
     }
 
     @GetMapping(path = "/games")
-    public ResponseEntity<List<GameDto>> getAllGames() {
-        logger.info("=== GET /api/games ===");
-        logger.info("Fetching all games from database");
+    public ResponseEntity<CursorPage<GameDto>> getGames(@RequestParam(name = "cursor", required = false) String cursor,
+                                                        @RequestParam(name = "limit", defaultValue = "50") int limit,
+                                                        @RequestParam(name = "platform", required = false) String platform,
+                                                        @RequestParam(name = "genre", required = false) String genre) {
+        logger.debug("Fetching games page after cursor: {} (platform: {}, genre: {})", cursor, platform, genre);
 
         try {
-            List<GameEntity> games = gameService.findAll();
-            List<GameDto> gameDtos = games.stream()
-                    .map(gameMapper::mapTo)
-                    .collect(java.util.stream.Collectors.toList());
+            CursorPage<GameDto> page = gameService.findPage(cursor, limit, platform, genre).map(gameMapper::mapTo);
+            attachRatingStats(page.getItems());
 
-            logger.info("Found {} games in database", gameDtos.size());
-            return ResponseEntity.ok(gameDtos);
+            logger.debug("Returning {} games, hasMore: {}", page.getItems().size(), page.isHasMore());
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid games cursor: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
-            logger.error("Error fetching all games: {}", e.getMessage());
+            logger.error("Error fetching games: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
         }
     }
 
-    // Main endpoint: Import first 5 games from IGDB and store them
-    @PostMapping(path = "/games/import-from-igdb")
-    public ResponseEntity<String> importGamesFromIGDB() {
-        logger.info("=== POST /api/games/import-from-igdb ===");
-        logger.info("Importing first 5 games from IGDB API...");
+    // Ranked prefix and typo-tolerant title search served from the in-memory trigram index
+    @GetMapping(path = "/games/search")
+    public ResponseEntity<List<GameDto>> searchGames(@RequestParam(name = "q") String query,
+                                                     @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        logger.debug("Searching games for: {}", query);
 
         try {
-            List<IGDBGameResponseDto> igdbGames = fetchFirst5GamesFromIGDB();
-
-            int savedCount = 0;
-            for (IGDBGameResponseDto igdbGame : igdbGames) {
-                try {
-                    // Check if game already exists to avoid duplicates
-                    String externalApiId = "igdb_" + igdbGame.getId();
-                    if (!gameAlreadyExists(externalApiId)) {
-                        GameEntity gameEntity = convertIGDBToGameEntity(igdbGame);
-                        gameService.createGameEntity(gameEntity);
-                        savedCount++;
-                        logger.info("Successfully imported game: {}", gameEntity.getTitle());
-                    } else {
-                        logger.info("Game already exists, skipping: {}", igdbGame.getName());
-                    }
-                } catch (Exception e) {
-                    logger.warn("Failed to import game {}: {}", igdbGame.getName(), e.getMessage());
-                }
-            }
-
-            String message = String.format("Successfully imported %d new games from IGDB", savedCount);
-            logger.info(message);
-            return ResponseEntity.ok(message);
+            List<GameDto> gameDtos = gameService.searchByTitle(query, limit).stream()
+                    .map(gameMapper::mapTo)
+                    .collect(Collectors.toList());
+            attachRatingStats(gameDtos);
 
-        } catch (Exception e) {
-            logger.error("Error importing games from IGDB: {}", e.getMessage());
-            return ResponseEntity.badRequest()
-                    .body("Failed to import games from IGDB: " + e.getMessage());
+            logger.debug("Found {} games matching: {}", gameDtos.size(), query);
+            return ResponseEntity.ok(gameDtos);
+        } catch (IllegalStateException e) {
+            logger.warn("Game search unavailable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         }
     }
 
-    // Private helper methods
-
-    private List<IGDBGameResponseDto> fetchFirst5GamesFromIGDB() {
-        logger.info("Fetching first 5 games from IGDB API...");
-
-        HttpHeaders headers = createIGDBHeaders();
-        // Query for first 5 popular games with all needed fields
-        String requestBody = "fields name,summary,cover.image_id,first_release_date,platforms.name,genres.name; " +
-                "where rating > 70; " +
-                "sort rating desc; " +
-                "limit 5;";
-
-        HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
+    // Faceted browse served from the in-memory facet index
+    @GetMapping(path = "/games/browse")
+    public ResponseEntity<FacetedPage<GameDto>> browseGames(@RequestParam(name = "genre", required = false) String genre,
+                                                            @RequestParam(name = "platform", required = false) String platform,
+                                                            @RequestParam(name = "year", required = false) Integer year,
+                                                            @RequestParam(name = "cursor", required = false) String cursor,
+                                                            @RequestParam(name = "limit", defaultValue = "50") int limit) {
+        logger.debug("Browsing games (genre: {}, platform: {}, year: {}) after cursor: {}", genre, platform, year, cursor);
 
         try {
-            ResponseEntity<IGDBGameResponseDto[]> response = restTemplate.exchange(
-                    IGDB_GAMES_ENDPOINT,
-                    HttpMethod.POST,
-                    entity,
-                    IGDBGameResponseDto[].class
-            );
-
-            IGDBGameResponseDto[] games = response.getBody();
-            logger.info("Successfully fetched {} games from IGDB", games != null ? games.length : 0);
-            return games != null ? Arrays.asList(games) : List.of();
+            FacetedPage<GameDto> page = gameService.browse(genre, platform, year, cursor, limit).map(gameMapper::mapTo);
+            attachRatingStats(page.getItems());
 
-        } catch (Exception e) {
-            logger.error("Failed to fetch games from IGDB: {}", e.getMessage());
-            throw new RuntimeException("IGDB API request failed", e);
+            logger.debug("Returning {} of {} matching games", page.getItems().size(), page.getTotalMatches());
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid browse request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            logger.warn("Game browse unavailable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         }
     }
 
-    private HttpHeaders createIGDBHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Client-ID", igdbClientId);
-        headers.set("Authorization", "Bearer " + igdbAccessToken);
-        headers.set("Accept", "application/json");
-        return headers;
-    }
-
-    private GameEntity convertIGDBToGameEntity(IGDBGameResponseDto igdbGame) {
-        GameEntity gameEntity = new GameEntity();
+    // Streams the whole catalog as newline-delimited JSON, one keyset page at a time
+    @GetMapping(path = "/games", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamAllGames(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+
+        long[] streamed = {0};
+        gameService.forEachPage(NDJSON_PAGE_SIZE, page -> {
+            try {
+                List<GameDto> gameDtos = page.stream()
+                        .map(gameMapper::mapTo)
+                        .collect(Collectors.toList());
+                attachRatingStats(gameDtos);
+
+                for (GameDto gameDto : gameDtos) {
+                    out.write(objectMapper.writeValueAsBytes(gameDto));
+                    out.write('\n');
+                }
+                out.flush();
+                streamed[0] += page.size();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
 
-        // Set required fields
-        gameEntity.setExternalApiId("igdb_" + igdbGame.getId());
-        gameEntity.setTitle(igdbGame.getName());
-        gameEntity.setDescription(igdbGame.getSummary() != null ? igdbGame.getSummary() : "No description available");
+        logger.debug("Streamed {} games", streamed[0]);
+    }
 
-        // Set cover image URL using IGDB's image service
-        if (igdbGame.getCover() != null && igdbGame.getCover().getImageId() != null) {
-            String coverUrl = "https://images.igdb.com/igdb/image/upload/t_cover_big/" +
-                    igdbGame.getCover().getImageId() + ".jpg";
-            gameEntity.setCoverImageUrl(coverUrl);
-        } else {
-            gameEntity.setCoverImageUrl(""); // Default empty if no cover
+    // Starts a full, resumable IGDB catalog import in the background
+    @PostMapping(path = "/games/import-from-igdb")
+    public ResponseEntity<IgdbImportStatusDto> importGamesFromIGDB(
+            @RequestParam(name = "restart", defaultValue = "false") boolean restart) {
+        if (!igdbImportService.startCatalogImport(restart)) {
+            logger.warn("IGDB import already running");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(igdbImportService.getStatus());
         }
 
-        // Convert Unix timestamp to LocalDate
-        if (igdbGame.getFirstReleaseDate() != null) {
-            LocalDate releaseDate = Instant.ofEpochSecond(igdbGame.getFirstReleaseDate())
-                    .atZone(ZoneId.systemDefault())
-                    .toLocalDate();
-            gameEntity.setReleaseDate(releaseDate);
-        }
+        logger.info("IGDB catalog import started (restart: {})", restart);
+        return ResponseEntity.accepted().body(igdbImportService.getStatus());
+    }
 
-        // Convert platforms list to String array
-        if (igdbGame.getPlatforms() != null && !igdbGame.getPlatforms().isEmpty()) {
-            String[] platforms = igdbGame.getPlatforms().stream()
-                    .map(IGDBGameResponseDto.IGDBPlatform::getName)
-                    .toArray(String[]::new);
-            gameEntity.setPlatforms(platforms);
-        }
+    @GetMapping(path = "/games/import-from-igdb/status")
+    public ResponseEntity<IgdbImportStatusDto> getIgdbImportStatus() {
+        return ResponseEntity.ok(igdbImportService.getStatus());
+    }
 
-        // Convert genres list to String array
-        if (igdbGame.getGenres() != null && !igdbGame.getGenres().isEmpty()) {
-            String[] genres = igdbGame.getGenres().stream()
-                    .map(IGDBGameResponseDto.IGDBGenre::getName)
-                    .toArray(String[]::new);
-            gameEntity.setGenres(genres);
+    // Starts the incremental IGDB sync in the background instead of waiting for the schedule
+    @PostMapping(path = "/games/sync-from-igdb")
+    public ResponseEntity<IgdbSyncStatusDto> syncGamesFromIGDB() {
+        if (!igdbSyncService.startSync()) {
+            logger.warn("IGDB sync already running");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(igdbSyncService.getStatus());
         }
 
-        return gameEntity;
+        logger.info("IGDB sync started");
+        return ResponseEntity.accepted().body(igdbSyncService.getStatus());
     }
 
-    private boolean gameAlreadyExists(String externalApiId) {
-        // This is a simple check - you might want to implement this in your GameService
-        // For now, we'll assume it doesn't exist (you can enhance this later)
-        return false;
+    @GetMapping(path = "/games/sync-from-igdb/status")
+    public ResponseEntity<IgdbSyncStatusDto> getIgdbSyncStatus() {
+        return ResponseEntity.ok(igdbSyncService.getStatus());
+    }
+
+    // Private helper methods
+
+    // Fills in the precomputed rating aggregates with one lookup for the whole page
+    private void attachRatingStats(List<GameDto> gameDtos) {
+        List<Long> gameIds = gameDtos.stream()
+                .map(GameDto::getId)
+                .collect(Collectors.toList());
+        Map<Long, GameRatingStatsEntity> statsByGameId = gameService.findRatingStats(gameIds);
+
+        for (GameDto gameDto : gameDtos) {
+            GameRatingStatsEntity stats = statsByGameId.get(gameDto.getId());
+            gameDto.setReviewCount(stats != null ? stats.getReviewCount() : 0L);
+            gameDto.setAverageRating(stats != null ? stats.getAverageRating() : null);
+            gameDto.setRatingHistogram(stats != null ? stats.getRatingHistogram() : new int[GameRatingStatsEntity.MAX_RATING]);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,16 @@
 package org.example.gamerscove.controllers;
 
 import org.example.gamerscove.domain.dto.ReviewDto;
+import org.example.gamerscove.domain.dto.ReviewSummaryDto;
 import org.example.gamerscove.domain.entities.GameEntity;
 import org.example.gamerscove.domain.entities.ReviewEntity;
 import org.example.gamerscove.domain.entities.UserEntity;
+import org.example.gamerscove.domain.pagination.CursorPage;
+import org.example.gamerscove.domain.pagination.ReviewSort;
 import org.example.gamerscove.mappers.Mapper;
 import org.example.gamerscove.services.GameService;
 import org.example.gamerscove.services.ReviewService;
+import org.example.gamerscove.services.TimelineService;
 import org.example.gamerscove.services.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,9 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api")
@@ -28,24 +30,24 @@ public class ReviewController {
     private final UserService userService;
     private final GameService gameService;
     private final Mapper<ReviewEntity, ReviewDto> reviewMapper;
+    private final TimelineService timelineService;
 
     public ReviewController(ReviewService reviewService,
                             UserService userService,
                             GameService gameService,
-                            Mapper<ReviewEntity, ReviewDto> reviewMapper) {
+                            Mapper<ReviewEntity, ReviewDto> reviewMapper,
+                            TimelineService timelineService) {
         this.reviewService = reviewService;
         this.userService = userService;
         this.gameService = gameService;
         this.reviewMapper = reviewMapper;
+        this.timelineService = timelineService;
     }
 
     // Create a new review
     @PostMapping(path = "/reviews")
-    public ResponseEntity<ReviewDto> createReview(@RequestBody ReviewDto reviewDto) {
-        logger.info("=== POST /api/reviews ENDPOINT CALLED ===");
-        logger.info("Creating review for game ID: {} by user ID: {}", reviewDto.getGameId(), reviewDto.getUserId());
-        logger.info("Rating: {}/10", reviewDto.getRating());
-        logger.info("========================================");
+    public ResponseEntity<ReviewSummaryDto> createReview(@RequestBody ReviewDto reviewDto) {
+        logger.debug("Creating review for game ID: {} by user ID: {}", reviewDto.getGameId(), reviewDto.getUserId());
 
         try {
             // Validate that user and game exist
@@ -69,10 +71,9 @@ public class ReviewController {
 
             // Save the review
             ReviewEntity savedReview = reviewService.createReviewEntity(reviewEntity);
-            ReviewDto savedReviewDto = reviewMapper.mapTo(savedReview);
 
-            logger.info("Review created successfully with ID: {}", savedReview.getId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(savedReviewDto);
+            logger.debug("Review created successfully with ID: {}", savedReview.getId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(toSummary(savedReview, user.get(), game.get()));
 
         } catch (Exception e) {
             logger.error("Error creating review: {}", e.getMessage());
@@ -82,12 +83,9 @@ public class ReviewController {
 
     // Update an existing review
     @PutMapping(path = "/reviews/{reviewId}")
-    public ResponseEntity<ReviewDto> updateReview(@PathVariable("reviewId") Long reviewId,
+    public ResponseEntity<ReviewSummaryDto> updateReview(@PathVariable("reviewId") Long reviewId,
                                                   @RequestBody ReviewDto reviewDto) {
-        logger.info("=== PUT /api/reviews/{} ENDPOINT CALLED ===", reviewId);
-        logger.info("Updating review with ID: {}", reviewId);
-        logger.info("New rating: {}/10", reviewDto.getRating());
-        logger.info("==========================================");
+        logger.debug("Updating review with ID: {}", reviewId);
 
         try {
             // Set the ID from path variable
@@ -108,10 +106,9 @@ public class ReviewController {
             reviewEntity.setGame(game.get());
 
             ReviewEntity updatedReview = reviewService.updateReviewEntity(reviewEntity);
-            ReviewDto updatedReviewDto = reviewMapper.mapTo(updatedReview);
 
-            logger.info("Review updated successfully");
-            return ResponseEntity.ok(updatedReviewDto);
+            logger.debug("Review updated successfully");
+            return ResponseEntity.ok(toSummary(updatedReview, user.get(), game.get()));
 
         } catch (IllegalArgumentException e) {
             logger.error("Review not found: {}", e.getMessage());
@@ -125,9 +122,7 @@ public class ReviewController {
     // Delete a review
     @DeleteMapping(path = "/reviews/{reviewId}")
     public ResponseEntity<Void> deleteReview(@PathVariable("reviewId") Long reviewId) {
-        logger.info("=== DELETE /api/reviews/{} ENDPOINT CALLED ===", reviewId);
-        logger.info("Deleting review with ID: {}", reviewId);
-        logger.info("=============================================");
+        logger.debug("Deleting review with ID: {}", reviewId);
 
         try {
             // Create a ReviewEntity with just the ID for deletion
@@ -135,7 +130,7 @@ public class ReviewController {
             reviewEntity.setId(reviewId);
 
             reviewService.deleteReviewEntity(reviewEntity);
-            logger.info("Review deleted successfully");
+            logger.debug("Review deleted successfully");
             return ResponseEntity.noContent().build();
 
         } catch (Exception e) {
@@ -144,21 +139,21 @@ public class ReviewController {
         }
     }
 
-    // Get all reviews for a specific game
+    // Get a page of reviews for a specific game
     @GetMapping(path = "/games/{gameId}/reviews")
-    public ResponseEntity<List<ReviewDto>> getReviewsForGame(@PathVariable("gameId") Long gameId) {
-        logger.info("=== GET /api/games/{}/reviews ENDPOINT CALLED ===", gameId);
-        logger.info("Fetching all reviews for game ID: {}", gameId);
-        logger.info("================================================");
+    public ResponseEntity<CursorPage<ReviewSummaryDto>> getReviewsForGame(
+            @PathVariable("gameId") Long gameId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "20") int limit,
+            @RequestParam(name = "sort", defaultValue = "newest") String sort) {
+        logger.debug("Fetching {} reviews for game ID: {}", sort, gameId);
 
         try {
-            List<ReviewEntity> reviews = reviewService.findAllReviewsForGame_Id(gameId);
-            List<ReviewDto> reviewDtos = reviews.stream()
-                    .map(reviewMapper::mapTo)
-                    .collect(Collectors.toList());
+            CursorPage<ReviewSummaryDto> page =
+                    reviewService.findReviewPageForGame_Id(gameId, ReviewSort.fromParam(sort), cursor, limit);
 
-            logger.info("Found {} reviews for game ID: {}", reviewDtos.size(), gameId);
-            return ResponseEntity.ok(reviewDtos);
+            logger.debug("Found {} reviews for game ID: {}", page.getItems().size(), gameId);
+            return ResponseEntity.ok(page);
 
         } catch (Exception e) {
             logger.error("Error fetching reviews for game: {}", e.getMessage());
@@ -166,21 +161,21 @@ public class ReviewController {
         }
     }
 
-    // Get all reviews by a specific user
+    // Get a page of reviews by a specific user
     @GetMapping(path = "/users/{userId}/reviews")
-    public ResponseEntity<List<ReviewDto>> getReviewsByUser(@PathVariable("userId") Long userId) {
-        logger.info("=== GET /api/users/{}/reviews ENDPOINT CALLED ===", userId);
-        logger.info("Fetching all reviews by user ID: {}", userId);
-        logger.info("================================================");
+    public ResponseEntity<CursorPage<ReviewSummaryDto>> getReviewsByUser(
+            @PathVariable("userId") Long userId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "20") int limit,
+            @RequestParam(name = "sort", defaultValue = "newest") String sort) {
+        logger.debug("Fetching {} reviews by user ID: {}", sort, userId);
 
         try {
-            List<ReviewEntity> reviews = reviewService.findAllReviewsForUser_Id(userId);
-            List<ReviewDto> reviewDtos = reviews.stream()
-                    .map(reviewMapper::mapTo)
-                    .collect(Collectors.toList());
+            CursorPage<ReviewSummaryDto> page =
+                    reviewService.findReviewPageForUser_Id(userId, ReviewSort.fromParam(sort), cursor, limit);
 
-            logger.info("Found {} reviews by user ID: {}", reviewDtos.size(), userId);
-            return ResponseEntity.ok(reviewDtos);
+            logger.debug("Found {} reviews by user ID: {}", page.getItems().size(), userId);
+            return ResponseEntity.ok(page);
 
         } catch (Exception e) {
             logger.error("Error fetching reviews by user: {}", e.getMessage());
@@ -188,12 +183,76 @@ public class ReviewController {
         }
     }
 
+    // Recent reviews by the user's friends, newest first
+    @GetMapping(path = "/users/{userId}/feed")
+    public ResponseEntity<CursorPage<ReviewSummaryDto>> getFeed(
+            @PathVariable("userId") Long userId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        logger.debug("Fetching feed for user ID: {}", userId);
+
+        if (userService.findById(userId).isEmpty()) {
+            logger.warn("User not found with ID: {}", userId);
+            return ResponseEntity.notFound().build();
+        }
+
+        try {
+            CursorPage<ReviewSummaryDto> page = timelineService.getFeed(userId, cursor, limit);
+
+            logger.debug("Found {} feed reviews for user ID: {}", page.getItems().size(), userId);
+            return ResponseEntity.ok(page);
+
+        } catch (IllegalArgumentException e) {
+            logger.error("Error fetching feed: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Search review content across every game, best matches first
+    @GetMapping(path = "/reviews/search")
+    public ResponseEntity<CursorPage<ReviewSummaryDto>> searchReviews(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        logger.debug("Searching reviews for: {}", query);
+
+        try {
+            CursorPage<ReviewSummaryDto> page = reviewService.searchReviews(query, null, cursor, limit);
+
+            logger.debug("Found {} matching reviews", page.getItems().size());
+            return ResponseEntity.ok(page);
+
+        } catch (Exception e) {
+            logger.error("Error searching reviews: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Search the reviews of one game, best matches first
+    @GetMapping(path = "/games/{gameId}/reviews/search")
+    public ResponseEntity<CursorPage<ReviewSummaryDto>> searchReviewsForGame(
+            @PathVariable("gameId") Long gameId,
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        logger.debug("Searching reviews of game ID: {} for: {}", gameId, query);
+
+        try {
+            CursorPage<ReviewSummaryDto> page = reviewService.searchReviews(query, gameId, cursor, limit);
+
+            logger.debug("Found {} matching reviews for game ID: {}", page.getItems().size(), gameId);
+            return ResponseEntity.ok(page);
+
+        } catch (Exception e) {
+            logger.error("Error searching reviews for game: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // Get a specific review by ID
     @GetMapping(path = "/reviews/{reviewId}")
     public ResponseEntity<ReviewDto> getReviewById(@PathVariable("reviewId") Long reviewId) {
-        logger.info("=== GET /api/reviews/{} ENDPOINT CALLED ===", reviewId);
-        logger.info("Fetching review with ID: {}", reviewId);
-        logger.info("==========================================");
+        logger.debug("Fetching review with ID: {}", reviewId);
 
         try {
             // Note: You'll need to add findById to ReviewService
@@ -206,4 +265,20 @@ public class ReviewController {
             return ResponseEntity.notFound().build();
         }
     }
-}
\ No newline at end of file
+
+    // Builds the response from the user and game the request was validated against. The saved review's own
+    // user and game may be uninitialized lazy proxies, which must not reach the JSON serializer.
+    private static ReviewSummaryDto toSummary(ReviewEntity review, UserEntity user, GameEntity game) {
+        return ReviewSummaryDto.builder()
+                .id(review.getId())
+                .rating(review.getRating())
+                .content(review.getContent())
+                .createdAt(review.getCreatedAt())
+                .userId(user.getId())
+                .username(user.getUsername())
+                .avatarUrl(user.getAvatarUrl())
+                .gameId(game.getId())
+                .gameTitle(game.getTitle())
+                .build();
+    }
+}
@@ -1,14 +1,19 @@
 package org.example.gamerscove.controllers;
 
+import org.example.gamerscove.domain.dto.GameSummaryDto;
 import org.example.gamerscove.domain.dto.UserDto;
 import org.example.gamerscove.domain.entities.UserEntity;
 import org.example.gamerscove.mappers.Mapper;
+import org.example.gamerscove.services.FriendshipService;
+import org.example.gamerscove.services.GameService;
 import org.example.gamerscove.services.UserService;
 import org.slf4j.*;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api")
@@ -17,17 +22,20 @@ public class UserController {
     private static final Logger logger = LoggerFactory.getLogger(UserController.class);
     private UserService userService;
     private Mapper<UserEntity, UserDto> userMapper;
+    private GameService gameService;
+    private FriendshipService friendshipService;
 
-    public UserController(UserService userService, Mapper<UserEntity, UserDto> userMapper) {
+    public UserController(UserService userService, Mapper<UserEntity, UserDto> userMapper, GameService gameService,
+                          FriendshipService friendshipService) {
         this.userService = userService;
         this.userMapper = userMapper;
+        this.gameService = gameService;
+        this.friendshipService = friendshipService;
     }
 
     @PostMapping(path = "/users")
     public UserDto createUser(@RequestBody UserDto user) {
-        logger.info("=== POST /api/users ENDPOINT CALLED ===");
-        logger.info("Received UserDto: {}", user);
-        logger.info("======================================");
+        logger.debug("Received UserDto: {}", user);
 
         UserEntity userEntity = userMapper.mapFrom(user);
         UserEntity savedUserEntity = userService.createUser(userEntity);
@@ -36,9 +44,7 @@ public class UserController {
 
     @PutMapping(path = "/users/me")
     public ResponseEntity<UserDto> updateUserInfo(@RequestBody UserDto user) {
-        logger.info("=== PUT /api/users/me ENDPOINT CALLED ===");
-        logger.info("Received request to update user info: {}", user);
-        logger.info("========================================");
+        logger.debug("Received request to update user info: {}", user);
 
         Optional<UserEntity> existingUser = userService.findByFirebaseUid(user.getFirebaseUid());
         if (existingUser.isPresent()) {
@@ -48,7 +54,7 @@ public class UserController {
             UserEntity updatedUser = userService.updateUser(userEntity);
             UserDto updatedUserDto = userMapper.mapTo(updatedUser);
 
-            logger.info("User updated successfully: {}", updatedUserDto.getUsername());
+            logger.debug("User updated successfully: {}", updatedUserDto.getUsername());
             return ResponseEntity.ok(updatedUserDto);
         } else {
             logger.warn("User not found for update with Firebase UID: {}", user.getFirebaseUid());
@@ -57,20 +63,13 @@ public class UserController {
     }
 
     @GetMapping(path = "/users/{userId}/favorite_games")
-    public ResponseEntity<Long[]> getUserFavoriteGames(@PathVariable("userId") Long userId) {
-        logger.info("=== GET /api/users/{}/favorite_games ENDPOINT CALLED ===", userId);
-        logger.info("Fetching favorite games for user ID: {}", userId);
-        logger.info("======================================================");
+    public ResponseEntity<long[]> getUserFavoriteGames(@PathVariable("userId") Long userId) {
+        logger.debug("Fetching favorite games for user ID: {}", userId);
 
         Optional<UserEntity> user = userService.findById(userId);
         if (user.isPresent()) {
-            Long[] favoriteGameIds = user.get().getFavoriteGameIds();
-            logger.info("Found {} favorite games for user {}",
-                    favoriteGameIds != null ? favoriteGameIds.length : 0,
-                    user.get().getUsername());
-            if (favoriteGameIds != null) {
-                logger.info("Favorite game IDs: {}", java.util.Arrays.toString(favoriteGameIds));
-            }
+            long[] favoriteGameIds = user.get().getFavoriteGameIds();
+            logger.debug("Found {} favorite games for user {}", favoriteGameIds.length, user.get().getUsername());
             return ResponseEntity.ok(favoriteGameIds);
         } else {
             logger.warn("User not found with ID: {}", userId);
@@ -78,21 +77,91 @@ public class UserController {
         }
     }
 
+    // Favorite games as summary cards: the ids come from the (cached) user, the games from one query
+    @GetMapping(path = "/users/{userId}/favorite_games/details")
+    public ResponseEntity<List<GameSummaryDto>> getUserFavoriteGameDetails(@PathVariable("userId") Long userId) {
+        logger.debug("Fetching favorite game details for user ID: {}", userId);
+
+        Optional<UserEntity> user = userService.findById(userId);
+        if (user.isEmpty()) {
+            logger.warn("User not found with ID: {}", userId);
+            return ResponseEntity.notFound().build();
+        }
+
+        List<GameSummaryDto> games = gameService.findSummaries(user.get().getFavoriteGameIds());
+        logger.debug("Found {} favorite games for user ID: {}", games.size(), userId);
+        return ResponseEntity.ok(games);
+    }
+
+    // Adds one favorite; repeating the call is a no-op
+    @PutMapping(path = "/users/{userId}/favorite_games/{gameId}")
+    public ResponseEntity<Void> addFavoriteGame(@PathVariable("userId") Long userId,
+                                                @PathVariable("gameId") Long gameId) {
+        logger.debug("Adding game ID: {} to favorites of user ID: {}", gameId, userId);
+
+        if (gameService.findById(gameId).isEmpty()) {
+            logger.warn("Game not found with ID: {}", gameId);
+            return ResponseEntity.notFound().build();
+        }
+        if (!userService.addFavoriteGame(userId, gameId)) {
+            logger.warn("User not found with ID: {}", userId);
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    // Removes one favorite; removing a game that is not a favorite is a no-op
+    @DeleteMapping(path = "/users/{userId}/favorite_games/{gameId}")
+    public ResponseEntity<Void> removeFavoriteGame(@PathVariable("userId") Long userId,
+                                                   @PathVariable("gameId") Long gameId) {
+        logger.debug("Removing game ID: {} from favorites of user ID: {}", gameId, userId);
+
+        if (!userService.removeFavoriteGame(userId, gameId)) {
+            logger.warn("User not found with ID: {}", userId);
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping(path = "/games/{gameId}/favorited_by")
+    public ResponseEntity<List<UserDto>> getUsersWhoFavorited(@PathVariable("gameId") Long gameId,
+                                                              @RequestParam(name = "limit", defaultValue = "20") int limit,
+                                                              @RequestParam(name = "viewerId", required = false) Long viewerId) {
+        logger.debug("Fetching users who favorited game ID: {}", gameId);
+
+        List<UserDto> users = userService.findUsersWhoFavorited(gameId, limit).stream()
+                .map(user -> toVisibleDto(user, viewerId))
+                .collect(Collectors.toList());
+
+        logger.debug("Found {} users who favorited game ID: {}", users.size(), gameId);
+        return ResponseEntity.ok(users);
+    }
+
     @GetMapping(path = "/users/username/{username}")
-    public ResponseEntity<UserDto> getUserByUsername(@PathVariable("username") String username) {
-        logger.info("=== GET /api/users/username/{} ENDPOINT CALLED ===", username);
-        logger.info("Fetching user by username: {}", username);
-        logger.info("=================================================");
+    public ResponseEntity<UserDto> getUserByUsername(@PathVariable("username") String username,
+                                                     @RequestParam(name = "viewerId", required = false) Long viewerId) {
+        logger.debug("Fetching user by username: {}", username);
 
         Optional<UserEntity> userFound = userService.findByUsername(username);
 
         if (userFound.isPresent()) {
-            UserDto userDto = userMapper.mapTo(userFound.get());
-            logger.info("Found user: {}", userDto.getUsername());
+            UserDto userDto = toVisibleDto(userFound.get(), viewerId);
+            logger.debug("Found user: {}", userDto.getUsername());
             return ResponseEntity.ok(userDto);
         } else {
             logger.warn("User not found with username: {}", username);
             return ResponseEntity.notFound().build();
         }
     }
-}
\ No newline at end of file
+
+    // Gamertags set to FRIENDS are shown only to the user and their accepted friends
+    private UserDto toVisibleDto(UserEntity user, Long viewerId) {
+        UserDto userDto = userMapper.mapTo(user);
+        if (user.getGamertagsVisibility() == UserEntity.GamertagsVisibility.FRIENDS
+                && !user.getId().equals(viewerId)
+                && (viewerId == null || !friendshipService.areFriends(user.getId(), viewerId))) {
+            userDto.setGamertags(null);
+        }
+        return userDto;
+    }
+}
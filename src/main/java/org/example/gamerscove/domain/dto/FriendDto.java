@@ -0,0 +1,17 @@
+package org.example.gamerscove.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One entry of a friend list: just enough of the other user to render it
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class FriendDto {
+    private Long userId;
+    private String username;
+    private String avatarUrl;
+}
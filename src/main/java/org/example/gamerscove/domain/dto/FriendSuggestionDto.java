@@ -0,0 +1,21 @@
+package org.example.gamerscove.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A "people you may know" entry: a friend of a friend and what the two users have in common
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class FriendSuggestionDto {
+    private Long userId;
+    private String username;
+    private String avatarUrl;
+    private int mutualFriends;
+    private int sharedPlatforms;
+    private int sharedFavoriteGames;
+    private int score;
+}
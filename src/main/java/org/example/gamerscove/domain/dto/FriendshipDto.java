@@ -0,0 +1,20 @@
+package org.example.gamerscove.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class FriendshipDto {
+    private Long id;
+    private Long requesterId;
+    private Long receiverId;
+    private String status;
+    private LocalDateTime createdAt;
+}
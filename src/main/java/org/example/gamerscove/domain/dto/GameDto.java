@@ -24,4 +24,7 @@ public class GameDto {
     private LocalDate releaseDate;
     private String[] platforms;
     private String[] genres;
+    private Long reviewCount;
+    private Double averageRating;
+    private int[] ratingHistogram;
 }
@@ -0,0 +1,22 @@
+package org.example.gamerscove.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Game card for lists embedded in other pages (e.g. a profile's favorites): no description or tags
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GameSummaryDto {
+    private Long id;
+    private String title;
+    private String coverImageUrl;
+    private LocalDate releaseDate;
+    private long reviewCount;
+    private Double averageRating;
+}
@@ -0,0 +1,30 @@
+package org.example.gamerscove.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class GameUpsertResultDto {
+    private int inserted;
+    private int updated;
+    private int unchanged;
+
+    // Ids of the inserted and updated games
+    @Builder.Default
+    private Set<Long> writtenIds = Set.of();
+
+    public static GameUpsertResultDto empty() {
+        return new GameUpsertResultDto(0, 0, 0, Set.of());
+    }
+
+    public int getWritten() {
+        return inserted + updated;
+    }
+}
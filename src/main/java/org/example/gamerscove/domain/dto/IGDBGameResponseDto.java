@@ -52,6 +52,10 @@ public class IGDBGameResponseDto {
     @JsonProperty("genres")
     private List<IGDBGenre> genres;
 
+    // Unix seconds of IGDB's last change to this game; drives the incremental sync
+    @JsonProperty("updated_at")
+    private Long updatedAt;
+
     // Getters and setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -74,5 +78,8 @@ public class IGDBGameResponseDto {
     public List<IGDBGenre> getGenres() { return genres; }
     public void setGenres(List<IGDBGenre> genres) { this.genres = genres; }
 
+    public Long getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Long updatedAt) { this.updatedAt = updatedAt; }
+
 
 }
\ No newline at end of file
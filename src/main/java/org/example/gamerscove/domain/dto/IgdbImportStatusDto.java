@@ -0,0 +1,26 @@
+package org.example.gamerscove.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+public class IgdbImportStatusDto {
+    private boolean running;
+    private boolean completed;
+    private int nextOffset;
+    private long pagesImported;
+    private long gamesUpserted;
+    private long gamesInserted;
+    private long gamesUpdated;
+    private long gamesUnchanged;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String lastError;
+}
@@ -0,0 +1,25 @@
+package org.example.gamerscove.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+public class IgdbSyncStatusDto {
+    private boolean running;
+    // Unix seconds; every game IGDB changed before this has been synced
+    private Long watermark;
+    private long pagesSynced;
+    private long gamesInserted;
+    private long gamesUpdated;
+    private long gamesUnchanged;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String lastError;
+}
@@ -0,0 +1,35 @@
+package org.example.gamerscove.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Flat, read-only view of a review for listings; filled directly by a JPQL constructor projection.
+// rank is only set on full-text search results.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReviewSummaryDto {
+    private Long id;
+    private Integer rating;
+    private String content;
+    private LocalDateTime createdAt;
+    private Long userId;
+    private String username;
+    private String avatarUrl;
+    private Long gameId;
+    private String gameTitle;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Float rank;
+
+    public ReviewSummaryDto(Long id, Integer rating, String content, LocalDateTime createdAt,
+                            Long userId, String username, String avatarUrl, Long gameId, String gameTitle) {
+        this(id, rating, content, createdAt, userId, username, avatarUrl, gameId, gameTitle, null);
+    }
+}
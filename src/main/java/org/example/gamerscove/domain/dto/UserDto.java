@@ -19,7 +19,7 @@ public class UserDto {
     private String avatarUrl;
     private String bio;
     private String[] preferredPlatforms;
-    private Long[] favoriteGameIds;
+    private long[] favoriteGameIds;
     private Map<String, String> gamertags;
     private String gamertagsVisibility;
 }
\ No newline at end of file
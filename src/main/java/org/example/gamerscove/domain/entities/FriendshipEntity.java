@@ -5,7 +5,13 @@ import lombok.*;
 
 @Data
 @Entity
-@Table(name = "friendships")
+@Table(name = "friendships", indexes = {
+        // One row per unordered pair: "are A and B friends" is a single unique-index probe
+        @Index(name = "uk_friendships_pair", columnList = "user_low_id, user_high_id", unique = true),
+        // A user's edges live under either column; each index answers one side with an index-only scan
+        @Index(name = "idx_friendships_low_status", columnList = "user_low_id, status, user_high_id"),
+        @Index(name = "idx_friendships_high_status", columnList = "user_high_id, status, user_low_id")
+})
 @Getter @Setter
 public class FriendshipEntity {
     @Id
@@ -18,6 +24,13 @@ public class FriendshipEntity {
     @Column(name = "receiver_id", nullable = false)
     private Long receiverId;
 
+    // The pair normalized as (min, max), whichever way the request went; kept in step by normalizePair()
+    @Column(name = "user_low_id", nullable = false)
+    private Long userLowId;
+
+    @Column(name = "user_high_id", nullable = false)
+    private Long userHighId;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", length = 10, columnDefinition = "varchar(10) default 'pending'")
     private FriendshipStatus status = FriendshipStatus.PENDING;
@@ -51,6 +64,14 @@ public class FriendshipEntity {
         this.requesterId = requesterId;
         this.receiverId = receiverId;
         this.status = FriendshipStatus.PENDING;
+        normalizePair();
+    }
+
+    @PrePersist
+    @PreUpdate
+    void normalizePair() {
+        this.userLowId = Math.min(requesterId, receiverId);
+        this.userHighId = Math.max(requesterId, receiverId);
     }
 
     // Helper methods
@@ -4,9 +4,11 @@ import jakarta.persistence.*;
 import lombok.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
+
 import java.time.LocalDate;
-import java.util.List;
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Data
 @Entity
@@ -40,45 +42,68 @@ public class GameEntity {
     @Column(name = "release_date")
     private LocalDate releaseDate;
 
-    @Column(name = "platforms", columnDefinition = "TEXT")
-    private String platforms;
-
-    @Column(name = "genres", columnDefinition = "TEXT")
-    private String genres;
-
-    public String[] getPlatforms() {
-        if (platforms == null || platforms.trim().isEmpty()) {
-            return new String[0];
+    // Platforms and genres are interned dictionary rows; the join tables carry a
+    // (tag_id, game_id) index so "all games with tag X" is an index range scan
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(
+            name = "game_platforms",
+            joinColumns = @JoinColumn(name = "game_id"),
+            inverseJoinColumns = @JoinColumn(name = "platform_id"),
+            indexes = @Index(name = "idx_game_platforms_platform_game", columnList = "platform_id, game_id")
+    )
+    @OrderBy("name")
+    @BatchSize(size = 100)
+    @Builder.Default
+    private Set<PlatformEntity> platforms = new LinkedHashSet<>();
+
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(
+            name = "game_genres",
+            joinColumns = @JoinColumn(name = "game_id"),
+            inverseJoinColumns = @JoinColumn(name = "genre_id"),
+            indexes = @Index(name = "idx_game_genres_genre_game", columnList = "genre_id, game_id")
+    )
+    @OrderBy("name")
+    @BatchSize(size = 100)
+    @Builder.Default
+    private Set<GenreEntity> genres = new LinkedHashSet<>();
+
+    public String[] getPlatformNames() {
+        return platforms.stream().map(PlatformEntity::getName).toArray(String[]::new);
+    }
+
+    // Replaces the platforms with not-yet-interned tags; GameService resolves them before saving
+    public void setPlatformNames(String... names) {
+        Set<PlatformEntity> tags = new LinkedHashSet<>();
+        if (names != null) {
+            for (String name : names) {
+                if (name != null && !name.isBlank()) {
+                    tags.add(new PlatformEntity(name));
+                }
+            }
         }
-        return platforms.split(",");
+        this.platforms = tags;
     }
 
-    public void setPlatforms(String[] platforms) {
-        if (platforms == null || platforms.length == 0) {
-            this.platforms = null;
-        } else {
-            this.platforms = String.join(",", platforms);
-        }
+    public String[] getGenreNames() {
+        return genres.stream().map(GenreEntity::getName).toArray(String[]::new);
     }
 
-    // Utility methods for genres array
-    public String[] getGenres() {
-        if (genres == null || genres.trim().isEmpty()) {
-            return new String[0];
-        }
-        return genres.split(",");
-    }
-
-    public void setGenres(String[] genres) {
-        if (genres == null || genres.length == 0) {
-            this.genres = null;
-        } else {
-            this.genres = String.join(",", genres);
+    public void setGenreNames(String... names) {
+        Set<GenreEntity> tags = new LinkedHashSet<>();
+        if (names != null) {
+            for (String name : names) {
+                if (name != null && !name.isBlank()) {
+                    tags.add(new GenreEntity(name));
+                }
+            }
         }
+        this.genres = tags;
     }
 
     // Constructor with required fields
     public GameEntity(String externalApiId, String title) {
+        this();
         this.externalApiId = externalApiId;
         this.title = title;
     }
@@ -87,110 +112,50 @@ public class GameEntity {
     public GameEntity(String externalApiId, String title, String description,
                       String coverImageUrl, LocalDate releaseDate,
                       String[] platforms, String[] genres) {
+        this();
         this.externalApiId = externalApiId;
         this.title = title;
         this.description = description;
         this.coverImageUrl = coverImageUrl;
         this.releaseDate = releaseDate;
-        setPlatforms(platforms); // Use setter to handle conversion
-        setGenres(genres); // Use setter to handle conversion
+        setPlatformNames(platforms);
+        setGenreNames(genres);
     }
 
-    // Convenience methods for array operations
+    // Convenience methods for tag operations
     public boolean hasPlatform(String platform) {
-        String[] platforms = getPlatforms();
-        if (platforms.length == 0) return false;
-        for (String p : platforms) {
-            if (platform.equalsIgnoreCase(p.trim())) {
-                return true;
-            }
-        }
-        return false;
+        return platforms.contains(new PlatformEntity(platform));
     }
 
     public boolean hasGenre(String genre) {
-        String[] genres = getGenres();
-        if (genres.length == 0) return false;
-        for (String g : genres) {
-            if (genre.equalsIgnoreCase(g.trim())) {
-                return true;
-            }
-        }
-        return false;
+        return genres.contains(new GenreEntity(genre));
     }
 
-    public void addPlatform(String platform) {
-        String[] currentPlatforms = getPlatforms();
-        if (currentPlatforms.length == 0) {
-            setPlatforms(new String[]{platform});
-        } else {
-            if (hasPlatform(platform)) {
-                return;
-            }
-            String[] newPlatforms = new String[currentPlatforms.length + 1];
-            System.arraycopy(currentPlatforms, 0, newPlatforms, 0, currentPlatforms.length);
-            newPlatforms[currentPlatforms.length] = platform;
-            setPlatforms(newPlatforms);
-        }
+    public void addPlatform(PlatformEntity platform) {
+        platforms.add(platform);
     }
 
-    public void addGenre(String genre) {
-        String[] currentGenres = getGenres();
-        if (currentGenres.length == 0) {
-            setGenres(new String[]{genre});
-        } else {
-            if (hasGenre(genre)) {
-                return;
-            }
-            String[] newGenres = new String[currentGenres.length + 1];
-            System.arraycopy(currentGenres, 0, newGenres, 0, currentGenres.length);
-            newGenres[currentGenres.length] = genre;
-            setGenres(newGenres);
-        }
+    public void addGenre(GenreEntity genre) {
+        genres.add(genre);
     }
 
     public void removePlatform(String platform) {
-        String[] currentPlatforms = getPlatforms();
-        if (currentPlatforms.length == 0) return;
-
-        List<String> platformList = new ArrayList<>();
-        for (String p : currentPlatforms) {
-            if (!platform.equalsIgnoreCase(p.trim())) {
-                platformList.add(p.trim());
-            }
-        }
-        setPlatforms(platformList.toArray(new String[0]));
+        platforms.remove(new PlatformEntity(platform));
     }
 
     public void removeGenre(String genre) {
-        String[] currentGenres = getGenres();
-        if (currentGenres.length == 0) return;
-
-        List<String> genreList = new ArrayList<>();
-        for (String g : currentGenres) {
-            if (!genre.equalsIgnoreCase(g.trim())) {
-                genreList.add(g.trim());
-            }
-        }
-        setGenres(genreList.toArray(new String[0]));
+        genres.remove(new GenreEntity(genre));
     }
 
     public String getPlatformsAsString() {
-        String[] platforms = getPlatforms();
-        if (platforms.length == 0) {
-            return "";
-        }
-        return String.join(", ", platforms);
+        return String.join(", ", getPlatformNames());
     }
 
     public String getGenresAsString() {
-        String[] genres = getGenres();
-        if (genres.length == 0) {
-            return "";
-        }
-        return String.join(", ", genres);
+        return String.join(", ", getGenreNames());
     }
 
+    // Tags are lazy, so they stay out of toString to keep logging from loading them
     @Override
     public String toString() {
         return "Game{" +
@@ -200,8 +165,6 @@ public class GameEntity {
                 ", description='" + description + '\'' +
                 ", coverImageUrl='" + coverImageUrl + '\'' +
                 ", releaseDate=" + releaseDate +
-                ", platforms=" + getPlatformsAsString() +
-                ", genres=" + getGenresAsString() +
                 '}';
     }
 
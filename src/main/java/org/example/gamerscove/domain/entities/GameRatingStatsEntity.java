@@ -0,0 +1,38 @@
+package org.example.gamerscove.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+// Running rating aggregates for one game, kept in step with the reviews table by ReviewService
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "game_rating_stats")
+public class GameRatingStatsEntity {
+
+    public static final int MAX_RATING = 10;
+
+    @Id
+    @Column(name = "game_id")
+    private Long gameId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    // rating_histogram[r] (1-based, as in Postgres) is the number of reviews rated r
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "rating_histogram", nullable = false, columnDefinition = "integer[]")
+    private int[] ratingHistogram;
+
+    public Double getAverageRating() {
+        if (reviewCount == 0) return null;
+        return (double) ratingSum / reviewCount;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.gamerscove.domain.entities;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.NoArgsConstructor;
+
+@Entity
+@NoArgsConstructor
+@Table(name = "genres")
+public class GenreEntity extends TagEntity {
+
+    public GenreEntity(String name) {
+        super(null, name);
+    }
+
+    public GenreEntity(Integer id, String name) {
+        super(id, name);
+    }
+}
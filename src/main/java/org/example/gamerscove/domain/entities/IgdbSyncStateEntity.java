@@ -0,0 +1,38 @@
+package org.example.gamerscove.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Persisted progress of an IGDB import job so an interrupted run can resume where it stopped
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "igdb_sync_state")
+public class IgdbSyncStateEntity {
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    // Every page below this offset has been fetched and upserted
+    @Column(name = "next_offset", nullable = false)
+    private int nextOffset;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "games_upserted", nullable = false)
+    private long gamesUpserted;
+
+    // Incremental sync only: every game IGDB changed before this (Unix seconds) has been upserted
+    @Column(name = "watermark")
+    private Long watermark;
+
+    @Column(name = "updated_at")
+    @org.hibernate.annotations.UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
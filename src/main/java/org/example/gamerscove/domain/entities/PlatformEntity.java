@@ -0,0 +1,19 @@
+package org.example.gamerscove.domain.entities;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.NoArgsConstructor;
+
+@Entity
+@NoArgsConstructor
+@Table(name = "platforms")
+public class PlatformEntity extends TagEntity {
+
+    public PlatformEntity(String name) {
+        super(null, name);
+    }
+
+    public PlatformEntity(Integer id, String name) {
+        super(id, name);
+    }
+}
@@ -13,18 +13,26 @@ import java.time.LocalDateTime;
 @Entity
 @Builder
 @AllArgsConstructor
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        // Keyset feeds: newest-first per game/user, and rating-ordered per game/user
+        @Index(name = "idx_reviews_game_created", columnList = "game_id, created_at, id"),
+        @Index(name = "idx_reviews_user_created", columnList = "user_id, created_at, id"),
+        // Pulled home feed: newest-first by id per author, the same keyset as the pushed timelines
+        @Index(name = "idx_reviews_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_reviews_game_rating", columnList = "game_id, rating, created_at, id"),
+        @Index(name = "idx_reviews_user_rating", columnList = "user_id, rating, created_at, id")
+})
 public class ReviewEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_review_user"))
     private UserEntity user;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "game_id", nullable = false, foreignKey = @ForeignKey(name = "fk_review_game"))
     private GameEntity game;
 
@@ -0,0 +1,60 @@
+package org.example.gamerscove.domain.entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Locale;
+
+// Shared shape of the platform and genre dictionaries: a display name plus a normalized key
+// that makes "PC", "pc" and " PC " the same tag. Equality follows the key, so sets of
+// not-yet-interned tags dedupe the same way the unique index does.
+@MappedSuperclass
+@Getter @Setter
+@NoArgsConstructor
+public abstract class TagEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @NotNull
+    @Size(max = 100)
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @NotNull
+    @Size(max = 100)
+    @Column(name = "name_key", nullable = false, unique = true, length = 100)
+    private String nameKey;
+
+    protected TagEntity(Integer id, String name) {
+        this.id = id;
+        this.name = name.trim();
+        this.nameKey = keyOf(name);
+    }
+
+    public static String keyOf(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return nameKey != null && nameKey.equals(((TagEntity) o).nameKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return nameKey != null ? nameKey.hashCode() : 0;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -4,10 +4,12 @@ import jakarta.persistence.*;
 import lombok.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Arrays;
-import java.util.stream.Collectors;
 
 @Data
 @Entity
@@ -18,6 +20,8 @@ import java.util.stream.Collectors;
 @Table(name = "users") // Note: 'user' is a reserved keyword in PostgreSQL
 public class UserEntity {
 
+    private static final long[] NO_GAME_IDS = new long[0];
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -47,9 +51,11 @@ public class UserEntity {
     @Column(name = "preferred_platforms", columnDefinition = "TEXT")
     private String preferredPlatforms;
 
-    // CHANGED: Store game IDs as comma-separated string
-    @Column(name = "favorite_game_ids", columnDefinition = "TEXT")
-    private String favoriteGameIds;
+    // Sorted, duplicate-free bigint[]; a GIN index on it serves "who favorited game X" lookups
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "favorite_game_ids", columnDefinition = "bigint[]")
+    @Builder.Default
+    private long[] favoriteGameIds = NO_GAME_IDS;
 
     // CHANGED: ElementCollection for proper Map storage
     @ElementCollection(fetch = FetchType.LAZY)
@@ -98,56 +104,60 @@ public class UserEntity {
         }
     }
 
-    // NEW: Utility methods for favorite game IDs
-    public Long[] getFavoriteGameIds() {
-        if (favoriteGameIds == null || favoriteGameIds.trim().isEmpty()) {
-            return new Long[0];
-        }
-        return Arrays.stream(favoriteGameIds.split(","))
-                .map(String::trim)
-                .map(Long::parseLong)
-                .toArray(Long[]::new);
+    // Favorite game ids are kept sorted and distinct, so membership is a binary search.
+    // The getter returns a copy: cached users are shared between requests.
+    public long[] getFavoriteGameIds() {
+        return favoriteGameIds == null ? NO_GAME_IDS : favoriteGameIds.clone();
     }
 
-    public void setFavoriteGameIds(Long[] gameIds) {
+    public void setFavoriteGameIds(long[] gameIds) {
         if (gameIds == null || gameIds.length == 0) {
-            this.favoriteGameIds = null;
-        } else {
-            this.favoriteGameIds = Arrays.stream(gameIds)
-                    .map(String::valueOf)
-                    .collect(Collectors.joining(","));
+            this.favoriteGameIds = NO_GAME_IDS;
+            return;
+        }
+
+        long[] sorted = gameIds.clone();
+        Arrays.sort(sorted);
+        int distinct = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[distinct - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
         }
+        this.favoriteGameIds = distinct == sorted.length ? sorted : Arrays.copyOf(sorted, distinct);
     }
 
     // Helper methods for managing favorite games
-    public void addFavoriteGameId(Long gameId) {
-        Long[] currentIds = getFavoriteGameIds();
-
-        // Check if game ID already exists
-        for (Long id : currentIds) {
-            if (id.equals(gameId)) {
-                return; // Already exists
-            }
+    public void addFavoriteGameId(long gameId) {
+        long[] currentIds = favoriteGameIds == null ? NO_GAME_IDS : favoriteGameIds;
+        int index = Arrays.binarySearch(currentIds, gameId);
+        if (index >= 0) {
+            return; // Already exists
         }
 
-        // Add new game ID
-        Long[] newIds = new Long[currentIds.length + 1];
-        System.arraycopy(currentIds, 0, newIds, 0, currentIds.length);
-        newIds[currentIds.length] = gameId;
-        setFavoriteGameIds(newIds);
+        int insertAt = -index - 1;
+        long[] newIds = new long[currentIds.length + 1];
+        System.arraycopy(currentIds, 0, newIds, 0, insertAt);
+        newIds[insertAt] = gameId;
+        System.arraycopy(currentIds, insertAt, newIds, insertAt + 1, currentIds.length - insertAt);
+        this.favoriteGameIds = newIds;
     }
 
-    public void removeFavoriteGameId(Long gameId) {
-        Long[] currentIds = getFavoriteGameIds();
-        Long[] newIds = Arrays.stream(currentIds)
-                .filter(id -> !id.equals(gameId))
-                .toArray(Long[]::new);
-        setFavoriteGameIds(newIds);
+    public void removeFavoriteGameId(long gameId) {
+        long[] currentIds = favoriteGameIds == null ? NO_GAME_IDS : favoriteGameIds;
+        int index = Arrays.binarySearch(currentIds, gameId);
+        if (index < 0) {
+            return;
+        }
+
+        long[] newIds = new long[currentIds.length - 1];
+        System.arraycopy(currentIds, 0, newIds, 0, index);
+        System.arraycopy(currentIds, index + 1, newIds, index, currentIds.length - index - 1);
+        this.favoriteGameIds = newIds;
     }
 
-    public boolean hasFavoriteGameId(Long gameId) {
-        Long[] currentIds = getFavoriteGameIds();
-        return Arrays.stream(currentIds).anyMatch(id -> id.equals(gameId));
+    public boolean hasFavoriteGameId(long gameId) {
+        return favoriteGameIds != null && Arrays.binarySearch(favoriteGameIds, gameId) >= 0;
     }
 
     // Backward compatibility - convert String[] to Long[]
@@ -0,0 +1,23 @@
+package org.example.gamerscove.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+// A user's feed of friends' reviews: the ids of the newest reviews pushed to them, oldest first,
+// at most timeline.capacity of them. Written by UserTimelineRepository.appendReviewId.
+@Entity
+@Table(name = "user_timelines")
+@Getter @Setter
+@NoArgsConstructor
+public class UserTimelineEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "review_ids", columnDefinition = "bigint[]", nullable = false)
+    private long[] reviewIds;
+}
@@ -0,0 +1,34 @@
+package org.example.gamerscove.domain.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.gamerscove.domain.dto.FacetCountDto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link CursorPage} of filtered results plus the total match count and, per facet
+ * (genre, platform, year), how many matches each value would leave if it were selected.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FacetedPage<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+    private int totalMatches;
+    private Map<String, List<FacetCountDto>> facets;
+
+    public <R> FacetedPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = items.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        return new FacetedPage<>(mapped, nextCursor, hasMore, totalMatches, facets);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.gamerscove.domain.pagination;
+
+import org.example.gamerscove.domain.dto.ReviewSummaryDto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+// Position of the last review on a feed page: the full sort key plus the sort it belongs to
+public record ReviewCursor(ReviewSort sort, int rating, LocalDateTime createdAt, long id) {
+
+    public static ReviewCursor after(ReviewSort sort, ReviewSummaryDto review) {
+        return new ReviewCursor(sort, review.getRating(), review.getCreatedAt(), review.getId());
+    }
+
+    public static ReviewCursor decode(String cursor, ReviewSort expectedSort) {
+        String[] parts = CursorCodec.decode(cursor, 4);
+        try {
+            ReviewSort sort = ReviewSort.valueOf(parts[0]);
+            if (sort != expectedSort) {
+                throw new IllegalArgumentException("Cursor was issued for sort " + sort.getValue());
+            }
+            return new ReviewCursor(sort, Integer.parseInt(parts[1]), LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        return CursorCodec.encode(sort.name(), rating, createdAt, id);
+    }
+}
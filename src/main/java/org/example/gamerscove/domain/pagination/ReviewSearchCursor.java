@@ -0,0 +1,24 @@
+package org.example.gamerscove.domain.pagination;
+
+import org.example.gamerscove.domain.dto.ReviewSummaryDto;
+
+// Position of the last hit on a review search page: its relevance rank and id
+public record ReviewSearchCursor(float rank, long id) {
+
+    public static ReviewSearchCursor after(ReviewSummaryDto review) {
+        return new ReviewSearchCursor(review.getRank(), review.getId());
+    }
+
+    public static ReviewSearchCursor decode(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 2);
+        try {
+            return new ReviewSearchCursor(Float.parseFloat(parts[0]), Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        return CursorCodec.encode(rank, id);
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.gamerscove.domain.pagination;
+
+import java.util.Locale;
+
+/**
+ * Orderings supported by the review feeds. Every ordering runs in a single direction over
+ * its index columns so a page can seek with one row-value comparison; lowest-rated therefore
+ * lists the oldest review first among equal ratings.
+ */
+public enum ReviewSort {
+    NEWEST("newest"),
+    HIGHEST_RATED("highest"),
+    LOWEST_RATED("lowest");
+
+    private final String value;
+
+    ReviewSort(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static ReviewSort fromParam(String param) {
+        if (param == null || param.isBlank()) {
+            return NEWEST;
+        }
+        for (ReviewSort sort : values()) {
+            if (sort.value.equalsIgnoreCase(param) || sort.name().equalsIgnoreCase(param)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unknown review sort: " + param.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.gamerscove.graph;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory adjacency of accepted friendships: each user maps to a sorted, duplicate-free
+ * {@code long[]} of friend ids, so "are A and B friends" is a hash lookup and a binary search
+ * with no query. Arrays are never modified in place; a change swaps in a new array for the two
+ * users involved, so readers need no lock.
+ * <p>
+ * Built by {@link FriendGraphMaintainer} from one scan of the accepted friendships and then kept
+ * current from {@link FriendshipChangedEvent}s. Until the first build is installed
+ * {@link #isReady()} is false and callers should ask the database instead.
+ */
+@Component
+public class FriendGraph {
+
+    private static final long[] NONE = new long[0];
+
+    private volatile Map<Long, long[]> friendsByUser = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    private List<FriendshipChangedEvent> pendingChanges;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean areFriends(long userId, long otherUserId) {
+        long[] friends = friendsByUser.get(userId);
+        return friends != null && Arrays.binarySearch(friends, otherUserId) >= 0;
+    }
+
+    // Sorted ascending; the returned array is a copy
+    public long[] friendIds(long userId) {
+        return friendsByUser.getOrDefault(userId, NONE).clone();
+    }
+
+    public int friendCount(long userId) {
+        return friendsByUser.getOrDefault(userId, NONE).length;
+    }
+
+    public int userCount() {
+        return friendsByUser.size();
+    }
+
+    // Users with at least one friend
+    long[] userIds() {
+        return friendsByUser.keySet().stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // The shared array itself, for callers in this package that only read it
+    long[] friendsOf(long userId) {
+        return friendsByUser.getOrDefault(userId, NONE);
+    }
+
+    // Applies one committed change; changes arriving during a rebuild are replayed onto the new graph
+    public synchronized void apply(FriendshipChangedEvent change) {
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+        apply(friendsByUser, change);
+    }
+
+    // Starts a full rebuild; the live graph keeps answering until the build is installed
+    public synchronized Build startBuild() {
+        pendingChanges = new ArrayList<>();
+        return new Build();
+    }
+
+    public final class Build {
+
+        private final Map<Long, long[]> friends = new HashMap<>();
+        private final Map<Long, Integer> sizes = new HashMap<>();
+
+        private Build() {
+        }
+
+        public void addPair(long userId, long otherUserId) {
+            append(userId, otherUserId);
+            append(otherUserId, userId);
+        }
+
+        public void install() {
+            Map<Long, long[]> built = new ConcurrentHashMap<>(Math.max(16, friends.size() * 4 / 3 + 1));
+            friends.forEach((userId, ids) -> {
+                long[] sorted = Arrays.copyOf(ids, sizes.get(userId));
+                Arrays.sort(sorted);
+                built.put(userId, distinct(sorted));
+            });
+
+            synchronized (FriendGraph.this) {
+                pendingChanges.forEach(change -> FriendGraph.apply(built, change));
+                pendingChanges = null;
+                friendsByUser = built;
+                ready = true;
+            }
+        }
+
+        // Drops a failed build so later changes stop queueing for it
+        public void cancel() {
+            synchronized (FriendGraph.this) {
+                pendingChanges = null;
+            }
+        }
+
+        private void append(long userId, long friendId) {
+            int size = sizes.getOrDefault(userId, 0);
+            long[] ids = friends.get(userId);
+            if (ids == null) {
+                ids = new long[4];
+                friends.put(userId, ids);
+            } else if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                friends.put(userId, ids);
+            }
+            ids[size] = friendId;
+            sizes.put(userId, size + 1);
+        }
+    }
+
+    private static void apply(Map<Long, long[]> graph, FriendshipChangedEvent change) {
+        if (change.accepted()) {
+            graph.compute(change.userId(), (userId, friends) -> insert(friends, change.otherUserId()));
+            graph.compute(change.otherUserId(), (userId, friends) -> insert(friends, change.userId()));
+        } else {
+            graph.computeIfPresent(change.userId(), (userId, friends) -> remove(friends, change.otherUserId()));
+            graph.computeIfPresent(change.otherUserId(), (userId, friends) -> remove(friends, change.userId()));
+        }
+    }
+
+    private static long[] insert(long[] friends, long friendId) {
+        if (friends == null) {
+            return new long[]{friendId};
+        }
+        int position = Arrays.binarySearch(friends, friendId);
+        if (position >= 0) {
+            return friends;
+        }
+        int insertAt = -position - 1;
+        long[] updated = new long[friends.length + 1];
+        System.arraycopy(friends, 0, updated, 0, insertAt);
+        updated[insertAt] = friendId;
+        System.arraycopy(friends, insertAt, updated, insertAt + 1, friends.length - insertAt);
+        return updated;
+    }
+
+    // Returns null (dropping the user's entry) once the last friend is removed
+    private static long[] remove(long[] friends, long friendId) {
+        int position = Arrays.binarySearch(friends, friendId);
+        if (position < 0) {
+            return friends;
+        }
+        if (friends.length == 1) {
+            return null;
+        }
+        long[] updated = new long[friends.length - 1];
+        System.arraycopy(friends, 0, updated, 0, position);
+        System.arraycopy(friends, position + 1, updated, position, friends.length - position - 1);
+        return updated;
+    }
+
+    private static long[] distinct(long[] sorted) {
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.gamerscove.graph;
+
+import org.example.gamerscove.domain.entities.FriendshipEntity;
+import org.example.gamerscove.repositories.FriendshipRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Builds the friend graph from one scan of the accepted friendships once the application is up,
+// then applies friendship changes as their transactions commit. After-commit callbacks of two
+// transactions on the same pair can run in either order, so an event only says which pair changed:
+// the pair's current row is re-read and applied under a per-pair lock. Whichever callback runs
+// last therefore read the state left by the last commit.
+@Component
+public class FriendGraphMaintainer {
+
+    private static final Logger logger = LoggerFactory.getLogger(FriendGraphMaintainer.class);
+
+    private final FriendshipRepository friendshipRepository;
+    private final FriendGraph friendGraph;
+    private final Object[] pairLocks = new Object[64];
+
+    public FriendGraphMaintainer(FriendshipRepository friendshipRepository, FriendGraph friendGraph) {
+        this.friendshipRepository = friendshipRepository;
+        this.friendGraph = friendGraph;
+        for (int i = 0; i < pairLocks.length; i++) {
+            pairLocks[i] = new Object();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        FriendGraph.Build build = friendGraph.startBuild();
+
+        try {
+            long[] scanned = {0};
+            friendshipRepository.forEachAcceptedPair((userLowId, userHighId) -> {
+                build.addPair(userLowId, userHighId);
+                scanned[0]++;
+            });
+            build.install();
+
+            logger.info("Built friend graph over {} friendships and {} users in {} ms",
+                    scanned[0], friendGraph.userCount(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            build.cancel();
+            logger.error("Failed to build friend graph: {}", e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFriendshipChanged(FriendshipChangedEvent event) {
+        long userLowId = Math.min(event.userId(), event.otherUserId());
+        long userHighId = Math.max(event.userId(), event.otherUserId());
+
+        synchronized (pairLocks[Long.hashCode(userLowId * 31 + userHighId) & (pairLocks.length - 1)]) {
+            boolean accepted = friendshipRepository.findByUserLowIdAndUserHighId(userLowId, userHighId)
+                    .map(FriendshipEntity::isAccepted)
+                    .orElse(false);
+            friendGraph.apply(new FriendshipChangedEvent(event.userId(), event.otherUserId(), accepted));
+        }
+    }
+}
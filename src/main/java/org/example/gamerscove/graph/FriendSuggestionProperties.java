@@ -0,0 +1,22 @@
+package org.example.gamerscove.graph;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the friend suggestion job run by {@code FriendSuggestionServiceImpl}.
+ *
+ * @param enabled      turns the periodic computation off; the endpoint then reports 503
+ * @param maxFanOut    friends followed per user, and friends-of-friends per friend, on each hop
+ * @param perUser      suggestions kept per user
+ * @param parallelism  fork-join worker threads used by a run
+ */
+@ConfigurationProperties(prefix = "friend-suggestions")
+public record FriendSuggestionProperties(Boolean enabled, Integer maxFanOut, Integer perUser, Integer parallelism) {
+
+    public FriendSuggestionProperties {
+        enabled = enabled == null || enabled;
+        maxFanOut = maxFanOut == null ? 200 : maxFanOut;
+        perUser = perUser == null ? 50 : perUser;
+        parallelism = parallelism == null ? Runtime.getRuntime().availableProcessors() : parallelism;
+    }
+}
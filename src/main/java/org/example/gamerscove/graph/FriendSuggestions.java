@@ -0,0 +1,184 @@
+package org.example.gamerscove.graph;
+
+import org.example.gamerscove.domain.dto.FriendSuggestionDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Ranks friends of friends ("people you may know") over the in-memory {@link FriendGraph}.
+ * A candidate's score weighs mutual friends first, then shared favorite games, then shared
+ * platforms. Users who are already friends, or whose pair has any other friendship row
+ * (pending, declined, blocked), are never suggested to each other.
+ * <p>
+ * Fan-out is bounded: at most {@code maxFanOut} friends are followed per user, and at most
+ * {@code maxFanOut} of each friend's friends are read, taken at an even stride through the
+ * sorted adjacency. One user's work is therefore capped at maxFanOut² steps however many
+ * friends they have; for very large friend lists mutual counts are counts over that sample.
+ */
+public class FriendSuggestions {
+
+    static final int MUTUAL_FRIEND_WEIGHT = 4;
+    static final int FAVORITE_GAME_WEIGHT = 2;
+    static final int PLATFORM_WEIGHT = 1;
+
+    private static final int USERS_PER_TASK = 64;
+
+    private static final Comparator<FriendSuggestionDto> RANKING = Comparator
+            .comparingInt(FriendSuggestionDto::getScore)
+            .thenComparingInt(FriendSuggestionDto::getMutualFriends)
+            .thenComparing(FriendSuggestionDto::getUserId, Comparator.reverseOrder());
+
+    private final FriendGraph graph;
+    private final Map<Long, SuggestionProfile> profiles;
+    private final Map<Long, Set<Long>> excludedPairs;
+    private final int maxFanOut;
+    private final int perUser;
+
+    // excludedPairs holds both directions of every pair that must not be suggested
+    public FriendSuggestions(FriendGraph graph, Map<Long, SuggestionProfile> profiles,
+                             Map<Long, Set<Long>> excludedPairs, int maxFanOut, int perUser) {
+        this.graph = graph;
+        this.profiles = profiles;
+        this.excludedPairs = excludedPairs;
+        this.maxFanOut = maxFanOut;
+        this.perUser = perUser;
+    }
+
+    // Suggestions for every user with at least one friend, best first; users with none are left out
+    public Map<Long, List<FriendSuggestionDto>> computeAll(ForkJoinPool pool) {
+        long[] userIds = graph.userIds();
+        Map<Long, List<FriendSuggestionDto>> results = new ConcurrentHashMap<>(Math.max(16, userIds.length * 4 / 3 + 1));
+        pool.invoke(new ComputeTask(userIds, 0, userIds.length, results));
+        return results;
+    }
+
+    public List<FriendSuggestionDto> computeFor(long userId) {
+        long[] friends = graph.friendsOf(userId);
+        if (friends.length == 0) {
+            return List.of();
+        }
+
+        Set<Long> excluded = excludedPairs.getOrDefault(userId, Set.of());
+        Map<Long, int[]> mutualCounts = new HashMap<>();
+        for (int i = 0; i < friends.length; i += stride(friends.length)) {
+            long[] friendsOfFriend = graph.friendsOf(friends[i]);
+            for (int j = 0; j < friendsOfFriend.length; j += stride(friendsOfFriend.length)) {
+                long candidate = friendsOfFriend[j];
+                if (candidate != userId && Arrays.binarySearch(friends, candidate) < 0 && !excluded.contains(candidate)) {
+                    mutualCounts.computeIfAbsent(candidate, id -> new int[1])[0]++;
+                }
+            }
+        }
+
+        SuggestionProfile user = profiles.get(userId);
+        PriorityQueue<FriendSuggestionDto> best = new PriorityQueue<>(perUser + 1, RANKING);
+        mutualCounts.forEach((candidateId, mutual) -> {
+            SuggestionProfile candidate = profiles.get(candidateId);
+            if (candidate == null) {
+                return;
+            }
+            best.add(suggestion(user, candidate, mutual[0]));
+            if (best.size() > perUser) {
+                best.poll();
+            }
+        });
+
+        List<FriendSuggestionDto> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING.reversed());
+        return ranked;
+    }
+
+    private int stride(int length) {
+        return length <= maxFanOut ? 1 : (length + maxFanOut - 1) / maxFanOut;
+    }
+
+    private static FriendSuggestionDto suggestion(SuggestionProfile user, SuggestionProfile candidate, int mutualFriends) {
+        int sharedPlatforms = user == null ? 0 : countShared(user.platforms(), candidate.platforms());
+        int sharedGames = user == null ? 0 : countShared(user.favoriteGameIds(), candidate.favoriteGameIds());
+        return FriendSuggestionDto.builder()
+                .userId(candidate.userId())
+                .username(candidate.username())
+                .avatarUrl(candidate.avatarUrl())
+                .mutualFriends(mutualFriends)
+                .sharedPlatforms(sharedPlatforms)
+                .sharedFavoriteGames(sharedGames)
+                .score(mutualFriends * MUTUAL_FRIEND_WEIGHT + sharedGames * FAVORITE_GAME_WEIGHT
+                        + sharedPlatforms * PLATFORM_WEIGHT)
+                .build();
+    }
+
+    // Both arrays sorted ascending
+    private static int countShared(long[] first, long[] second) {
+        int shared = 0;
+        for (int i = 0, j = 0; i < first.length && j < second.length; ) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                shared++;
+                i++;
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    private static int countShared(String[] first, String[] second) {
+        int shared = 0;
+        for (int i = 0, j = 0; i < first.length && j < second.length; ) {
+            int order = first[i].compareTo(second[j]);
+            if (order < 0) {
+                i++;
+            } else if (order > 0) {
+                j++;
+            } else {
+                shared++;
+                i++;
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    // Splits the user range in halves until a slice is small enough to compute directly
+    private final class ComputeTask extends RecursiveAction {
+
+        private final long[] userIds;
+        private final int from;
+        private final int to;
+        private final Map<Long, List<FriendSuggestionDto>> results;
+
+        ComputeTask(long[] userIds, int from, int to, Map<Long, List<FriendSuggestionDto>> results) {
+            this.userIds = userIds;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= USERS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    List<FriendSuggestionDto> suggestions = computeFor(userIds[i]);
+                    if (!suggestions.isEmpty()) {
+                        results.put(userIds[i], suggestions);
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ComputeTask(userIds, from, middle, results), new ComputeTask(userIds, middle, to, results));
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package org.example.gamerscove.graph;
+
+// Published by FriendshipService after a pair's status changes; accepted is whether the two were friends when it
+// was published. Listeners may run out of commit order, so FriendGraphMaintainer re-reads the pair instead.
+public record FriendshipChangedEvent(long userId, long otherUserId, boolean accepted) {
+}
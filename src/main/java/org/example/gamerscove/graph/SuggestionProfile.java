@@ -0,0 +1,6 @@
+package org.example.gamerscove.graph;
+
+// The parts of a user that friend suggestions rank on; platforms are lower-cased and sorted, game ids sorted
+public record SuggestionProfile(long userId, String username, String avatarUrl, String[] platforms,
+                                long[] favoriteGameIds) {
+}
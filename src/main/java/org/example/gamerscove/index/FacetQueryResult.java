@@ -0,0 +1,14 @@
+package org.example.gamerscove.index;
+
+import org.example.gamerscove.domain.dto.FacetCountDto;
+
+import java.util.List;
+
+// One page of matching game ids, in index (ordinal) order, with the facet counts for the current filters
+public record FacetQueryResult(List<Long> gameIds,
+                               boolean hasMore,
+                               int totalMatches,
+                               List<FacetCountDto> genres,
+                               List<FacetCountDto> platforms,
+                               List<FacetCountDto> years) {
+}
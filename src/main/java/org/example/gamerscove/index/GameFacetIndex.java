@@ -0,0 +1,236 @@
+package org.example.gamerscove.index;
+
+import org.example.gamerscove.domain.dto.FacetCountDto;
+import org.example.gamerscove.domain.entities.GameEntity;
+import org.example.gamerscove.domain.entities.TagEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitmap index for faceted game browsing. Every game gets a dense ordinal; each genre,
+ * platform and release year owns a bitmap with one bit per ordinal. A filter is an AND of
+ * bitmaps and a facet count is the popcount of one more AND, so browsing never touches
+ * the database until the page's games are loaded by id.
+ * <p>
+ * Browse pages walk set bits upward, i.e. in ordinal order. The build assigns ordinals in id
+ * order, but games that arrive later are appended in the order their commits are applied,
+ * and concurrent import pages can commit out of id order. Pages are therefore not strictly
+ * in id order. Paging is still exact: an ordinal never changes once assigned, so a cursor
+ * resumes right after the last game it returned.
+ */
+@Component
+public class GameFacetIndex implements GameIndex {
+
+    public static final String GENRE = "genre";
+    public static final String PLATFORM = "platform";
+    public static final String YEAR = "year";
+
+    private static final OrdinalBitmap EMPTY = new OrdinalBitmap();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state;
+    private List<GameEntity> pendingUpdates;
+
+    @Override
+    public String getName() {
+        return "facets";
+    }
+
+    @Override
+    public Build startBuild() {
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State built = new State();
+        return new Build() {
+            @Override
+            public void add(GameEntity game) {
+                built.put(game);
+            }
+
+            @Override
+            public void install() {
+                lock.writeLock().lock();
+                try {
+                    pendingUpdates.forEach(built::put);
+                    pendingUpdates = null;
+                    state = built;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                lock.writeLock().lock();
+                try {
+                    pendingUpdates = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+    }
+
+    @Override
+    public void update(Collection<GameEntity> games) {
+        lock.writeLock().lock();
+        try {
+            if (pendingUpdates != null) {
+                pendingUpdates.addAll(games);
+            }
+            if (state != null) {
+                games.forEach(state::put);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} matching game ids after {@code afterId} (null for the first page).
+     * Each facet is counted against the other active filters only, so a client can see what
+     * switching the selected genre, platform or year would yield.
+     */
+    public FacetQueryResult query(String genre, String platform, Integer year, Long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            if (state == null) {
+                throw new IllegalStateException("Game facet index is still building");
+            }
+
+            OrdinalBitmap genreFilter = genre == null ? null : state.genres.bitmap(TagEntity.keyOf(genre));
+            OrdinalBitmap platformFilter = platform == null ? null : state.platforms.bitmap(TagEntity.keyOf(platform));
+            OrdinalBitmap yearFilter = year == null ? null : state.years.getOrDefault(year, EMPTY);
+
+            OrdinalBitmap genreBase = intersect(state.live, platformFilter, yearFilter);
+            OrdinalBitmap platformBase = intersect(state.live, genreFilter, yearFilter);
+            OrdinalBitmap yearBase = intersect(state.live, genreFilter, platformFilter);
+            OrdinalBitmap matches = intersect(genreBase, genreFilter, null);
+
+            int from = 0;
+            if (afterId != null) {
+                Integer afterOrdinal = state.ordinals.get(afterId);
+                if (afterOrdinal == null) {
+                    throw new IllegalArgumentException("Unknown browse cursor position");
+                }
+                from = afterOrdinal + 1;
+            }
+
+            List<Long> gameIds = new ArrayList<>(limit);
+            int ordinal = matches.nextSetBit(from);
+            while (ordinal >= 0 && gameIds.size() < limit) {
+                gameIds.add(state.gameIds[ordinal]);
+                ordinal = matches.nextSetBit(ordinal + 1);
+            }
+
+            return new FacetQueryResult(gameIds, ordinal >= 0, matches.cardinality(),
+                    state.genres.counts(genreBase),
+                    state.platforms.counts(platformBase),
+                    yearCounts(yearBase));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<FacetCountDto> yearCounts(OrdinalBitmap base) {
+        List<FacetCountDto> counts = new ArrayList<>();
+        state.years.forEach((year, bitmap) -> {
+            int count = base.andCardinality(bitmap);
+            if (count > 0) {
+                counts.add(new FacetCountDto(String.valueOf(year), count));
+            }
+        });
+        counts.sort(Comparator.comparingInt((FacetCountDto count) -> Integer.parseInt(count.getValue())).reversed());
+        return counts;
+    }
+
+    private static OrdinalBitmap intersect(OrdinalBitmap base, OrdinalBitmap first, OrdinalBitmap second) {
+        OrdinalBitmap result = first == null ? base : base.and(first);
+        return second == null ? result : result.and(second);
+    }
+
+    // Tag facet: display name and bitmap per normalized tag key
+    private static final class TagFacet {
+
+        private final Map<String, String> names = new HashMap<>();
+        private final Map<String, OrdinalBitmap> bitmaps = new HashMap<>();
+
+        void set(int ordinal, Collection<? extends TagEntity> tags) {
+            for (TagEntity tag : tags) {
+                names.putIfAbsent(tag.getNameKey(), tag.getName());
+                bitmaps.computeIfAbsent(tag.getNameKey(), key -> new OrdinalBitmap()).set(ordinal);
+            }
+        }
+
+        void clear(int ordinal) {
+            bitmaps.values().forEach(bitmap -> bitmap.clear(ordinal));
+        }
+
+        OrdinalBitmap bitmap(String key) {
+            return bitmaps.getOrDefault(key, EMPTY);
+        }
+
+        List<FacetCountDto> counts(OrdinalBitmap base) {
+            List<FacetCountDto> counts = new ArrayList<>();
+            bitmaps.forEach((key, bitmap) -> {
+                int count = base.andCardinality(bitmap);
+                if (count > 0) {
+                    counts.add(new FacetCountDto(names.get(key), count));
+                }
+            });
+            counts.sort(Comparator.comparingInt(FacetCountDto::getCount).reversed()
+                    .thenComparing(FacetCountDto::getValue));
+            return counts;
+        }
+    }
+
+    private static final class State {
+
+        private long[] gameIds = new long[1024];
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final OrdinalBitmap live = new OrdinalBitmap(1024);
+        private final TagFacet genres = new TagFacet();
+        private final TagFacet platforms = new TagFacet();
+        private final Map<Integer, OrdinalBitmap> years = new HashMap<>();
+
+        // Inserts a game or replaces the facets of one already indexed
+        void put(GameEntity game) {
+            Integer existing = ordinals.get(game.getId());
+            int ordinal;
+            if (existing != null) {
+                ordinal = existing;
+                genres.clear(ordinal);
+                platforms.clear(ordinal);
+                years.values().forEach(bitmap -> bitmap.clear(ordinal));
+            } else {
+                ordinal = ordinals.size();
+                if (ordinal == gameIds.length) {
+                    gameIds = Arrays.copyOf(gameIds, ordinal * 2);
+                }
+                gameIds[ordinal] = game.getId();
+                ordinals.put(game.getId(), ordinal);
+                live.set(ordinal);
+            }
+
+            genres.set(ordinal, game.getGenres());
+            platforms.set(ordinal, game.getPlatforms());
+            if (game.getReleaseDate() != null) {
+                years.computeIfAbsent(game.getReleaseDate().getYear(), year -> new OrdinalBitmap()).set(ordinal);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.gamerscove.index;
+
+import org.example.gamerscove.domain.entities.GameEntity;
+
+import java.util.Collection;
+
+/**
+ * An in-memory index over the game catalog, built by {@link GameIndexMaintainer} from a
+ * full scan at startup and then kept current from {@link GamesChangedEvent}s.
+ */
+public interface GameIndex {
+
+    String getName();
+
+    // Starts a full rebuild; the live index keeps answering until the build is installed
+    Build startBuild();
+
+    // Applies inserted or updated games to the live index
+    void update(Collection<GameEntity> games);
+
+    interface Build {
+        void add(GameEntity game);
+
+        // Swaps the built index in and replays any updates that arrived while it was building
+        void install();
+
+        // Drops a failed build so later updates stop queueing for it
+        void cancel();
+    }
+}
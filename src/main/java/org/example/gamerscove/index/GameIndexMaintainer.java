@@ -0,0 +1,81 @@
+package org.example.gamerscove.index;
+
+import jakarta.annotation.PreDestroy;
+import org.example.gamerscove.services.GameService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Builds every GameIndex from one catalog scan once the application is up, then applies
+// game changes as their transactions commit. A failed build is cancelled and retried every
+// game-index.retry-interval on its own thread until one succeeds.
+@Component
+public class GameIndexMaintainer {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameIndexMaintainer.class);
+    private static final int SCAN_PAGE_SIZE = 200;
+
+    private final GameService gameService;
+    private final List<GameIndex> indexes;
+    private final ExecutorService retryExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("game-index-"));
+    private final AtomicBoolean buildFailed = new AtomicBoolean();
+
+    public GameIndexMaintainer(GameService gameService, List<GameIndex> indexes) {
+        this.gameService = gameService;
+        this.indexes = indexes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        long start = System.currentTimeMillis();
+        List<GameIndex.Build> builds = indexes.stream().map(GameIndex::startBuild).toList();
+
+        try {
+            long[] scanned = {0};
+            gameService.forEachPage(SCAN_PAGE_SIZE, page -> {
+                page.forEach(game -> builds.forEach(build -> build.add(game)));
+                scanned[0] += page.size();
+            });
+            builds.forEach(GameIndex.Build::install);
+
+            logger.info("Built game indexes {} over {} games in {} ms",
+                    indexes.stream().map(GameIndex::getName).toList(), scanned[0], System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            builds.forEach(GameIndex.Build::cancel);
+            buildFailed.set(true);
+            logger.error("Failed to build game indexes, retrying later: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${game-index.retry-interval:PT1M}",
+            fixedDelayString = "${game-index.retry-interval:PT1M}")
+    public void retryFailedBuild() {
+        if (buildFailed.compareAndSet(true, false)) {
+            retryExecutor.execute(this::rebuildAll);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryExecutor.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamesChanged(GamesChangedEvent event) {
+        if (event.games().isEmpty()) {
+            return;
+        }
+        indexes.forEach(index -> index.update(event.games()));
+        logger.debug("Applied {} changed games to game indexes", event.games().size());
+    }
+}
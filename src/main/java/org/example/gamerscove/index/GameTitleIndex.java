@@ -0,0 +1,400 @@
+package org.example.gamerscove.index;
+
+import org.example.gamerscove.domain.entities.GameEntity;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Trigram inverted index over game titles for prefix and typo-tolerant search.
+ * <p>
+ * Titles are folded (lower case, accents and punctuation stripped) and each word is padded
+ * pg_trgm style ("  zelda ") before being cut into trigrams, so leading trigrams anchor
+ * prefixes and a typo only disturbs the few trigrams around it. Each trigram maps to a
+ * sorted int array of game ordinals. A query counts, per ordinal, how many of its
+ * trigrams the title shares, using a pooled scratch array instead of a map, and
+ * keeps the best matches in a bounded heap.
+ */
+@Component
+public class GameTitleIndex implements GameIndex {
+
+    // Queries up to this many trigrams (a short word being typed) must match all of them; longer
+    // ones tolerate a typo, which disturbs at most TYPO_TRIGRAMS trigrams, down to MIN_QUERY_COVERAGE
+    private static final int EXACT_PREFIX_TRIGRAMS = 4;
+    private static final int TYPO_TRIGRAMS = 4;
+    private static final double MIN_QUERY_COVERAGE = 0.5;
+    private static final double MAX_TITLE_BONUS = 0.5;
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state;
+    private List<GameEntity> pendingUpdates;
+
+    public record TitleMatch(long gameId, double score) {
+    }
+
+    @Override
+    public String getName() {
+        return "titles";
+    }
+
+    @Override
+    public Build startBuild() {
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State built = new State();
+        return new Build() {
+            @Override
+            public void add(GameEntity game) {
+                built.put(game.getId(), game.getTitle());
+            }
+
+            @Override
+            public void install() {
+                lock.writeLock().lock();
+                try {
+                    pendingUpdates.forEach(game -> built.put(game.getId(), game.getTitle()));
+                    pendingUpdates = null;
+                    state = built;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                lock.writeLock().lock();
+                try {
+                    pendingUpdates = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+    }
+
+    @Override
+    public void update(Collection<GameEntity> games) {
+        lock.writeLock().lock();
+        try {
+            if (pendingUpdates != null) {
+                pendingUpdates.addAll(games);
+            }
+            if (state != null) {
+                games.forEach(game -> state.put(game.getId(), game.getTitle()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} games ranked by how well their title matches {@code query}.
+     * The last query word is treated as a prefix, so "zeld" finds "The Legend of Zelda".
+     */
+    public List<TitleMatch> search(String query, int limit) {
+        String folded = fold(query);
+        if (folded.isEmpty()) {
+            return List.of();
+        }
+        long[] queryTrigrams = distinct(trigrams(folded, false));
+        if (queryTrigrams.length == 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (state == null) {
+                throw new IllegalStateException("Game title index is still building");
+            }
+            return state.search(folded, queryTrigrams, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static int minHits(int queryTrigramCount) {
+        if (queryTrigramCount <= EXACT_PREFIX_TRIGRAMS) {
+            return queryTrigramCount;
+        }
+        return Math.max((int) Math.ceil(queryTrigramCount * MIN_QUERY_COVERAGE), queryTrigramCount - TYPO_TRIGRAMS);
+    }
+
+    static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    // Trigrams of every word padded as "  word "; for queries the last word keeps its tail open
+    static long[] trigrams(String folded, boolean closeLastWord) {
+        String[] words = folded.split(" ");
+        long[] result = new long[folded.length() * 3 + 3];
+        int count = 0;
+        for (int w = 0; w < words.length; w++) {
+            String word = words[w];
+            if (word.isEmpty()) {
+                continue;
+            }
+            boolean closed = closeLastWord || w < words.length - 1;
+            String padded = "  " + word + (closed ? " " : "");
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                result[count++] = ((long) padded.charAt(i) << 32)
+                        | ((long) padded.charAt(i + 1) << 16)
+                        | padded.charAt(i + 2);
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static long[] distinct(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, unique);
+    }
+
+    // Sorted, growable list of ordinals for one trigram
+    private static final class Postings {
+
+        static final Postings EMPTY = new Postings();
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size > 0 && ordinals[size - 1] >= ordinal) {
+                int at = Arrays.binarySearch(ordinals, 0, size, ordinal);
+                if (at >= 0) {
+                    return;
+                }
+                insertAt(-at - 1, ordinal);
+                return;
+            }
+            insertAt(size, ordinal);
+        }
+
+        void remove(int ordinal) {
+            int at = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (at >= 0) {
+                System.arraycopy(ordinals, at + 1, ordinals, at, size - at - 1);
+                size--;
+            }
+        }
+
+        private void insertAt(int at, int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            System.arraycopy(ordinals, at, ordinals, at + 1, size - at);
+            ordinals[at] = ordinal;
+            size++;
+        }
+    }
+
+    // Hit counters indexed by ordinal, plus the list of ordinals touched so far. Searches borrow
+    // one from a small shared pool rather than a ThreadLocal: with a virtual thread per request,
+    // a ThreadLocal would allocate both arrays on every search and never reuse them.
+    private static final class Scratch {
+
+        private static final int MAX_POOLED = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+        private static final ConcurrentLinkedQueue<Scratch> POOL = new ConcurrentLinkedQueue<>();
+        private static final AtomicInteger pooled = new AtomicInteger();
+
+        private int[] hits = new int[0];
+        private int[] touched = new int[0];
+
+        static Scratch acquire(int ordinals) {
+            Scratch scratch = POOL.poll();
+            if (scratch != null) {
+                pooled.decrementAndGet();
+            } else {
+                scratch = new Scratch();
+            }
+            scratch.ensureCapacity(ordinals);
+            return scratch;
+        }
+
+        // Only for a scratch whose hit counters are all back to zero
+        static void release(Scratch scratch) {
+            if (pooled.incrementAndGet() <= MAX_POOLED) {
+                POOL.offer(scratch);
+            } else {
+                pooled.decrementAndGet();
+            }
+        }
+
+        void ensureCapacity(int ordinals) {
+            if (hits.length < ordinals) {
+                hits = new int[Math.max(ordinals, hits.length * 2)];
+                touched = new int[hits.length];
+            }
+        }
+    }
+
+    private static final class State {
+
+        private long[] gameIds = new long[1024];
+        private String[] foldedTitles = new String[1024];
+        private long[][] titleTrigrams = new long[1024][];
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final Map<Long, Postings> postings = new HashMap<>();
+
+        void put(Long gameId, String title) {
+            Integer existing = ordinals.get(gameId);
+            int ordinal;
+            if (existing != null) {
+                ordinal = existing;
+                for (long trigram : titleTrigrams[ordinal]) {
+                    postings.get(trigram).remove(ordinal);
+                }
+            } else {
+                ordinal = ordinals.size();
+                if (ordinal == gameIds.length) {
+                    gameIds = Arrays.copyOf(gameIds, ordinal * 2);
+                    foldedTitles = Arrays.copyOf(foldedTitles, ordinal * 2);
+                    titleTrigrams = Arrays.copyOf(titleTrigrams, ordinal * 2);
+                }
+                gameIds[ordinal] = gameId;
+                ordinals.put(gameId, ordinal);
+            }
+
+            String folded = fold(title);
+            long[] trigrams = distinct(trigrams(folded, true));
+            foldedTitles[ordinal] = folded;
+            titleTrigrams[ordinal] = trigrams;
+            for (long trigram : trigrams) {
+                postings.computeIfAbsent(trigram, key -> new Postings()).add(ordinal);
+            }
+        }
+
+        List<TitleMatch> search(String foldedQuery, long[] queryTrigrams, int limit) {
+            Scratch scratch = Scratch.acquire(ordinals.size());
+            int[] hits = scratch.hits;
+            int[] touched = scratch.touched;
+            int touchedCount = 0;
+
+            Postings[] lists = new Postings[queryTrigrams.length];
+            for (int i = 0; i < queryTrigrams.length; i++) {
+                Postings list = postings.get(queryTrigrams[i]);
+                lists[i] = list != null ? list : Postings.EMPTY;
+            }
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+            // A match must share minHits of the n query trigrams, so it appears in at least one of
+            // the n - minHits + 1 rarest lists. Only those lists produce candidates; the common
+            // ones are merely probed for candidates already found.
+            int minHits = minHits(queryTrigrams.length);
+            int candidateLists = queryTrigrams.length - minHits + 1;
+            for (int l = 0; l < candidateLists; l++) {
+                Postings list = lists[l];
+                int[] ids = list.ordinals;
+                for (int i = 0; i < list.size; i++) {
+                    int ordinal = ids[i];
+                    if (hits[ordinal]++ == 0) {
+                        touched[touchedCount++] = ordinal;
+                    }
+                }
+            }
+            for (int l = candidateLists; l < lists.length && touchedCount > 0; l++) {
+                Postings list = lists[l];
+                if ((long) touchedCount * (32 - Integer.numberOfLeadingZeros(list.size)) < list.size) {
+                    for (int i = 0; i < touchedCount; i++) {
+                        if (Arrays.binarySearch(list.ordinals, 0, list.size, touched[i]) >= 0) {
+                            hits[touched[i]]++;
+                        }
+                    }
+                } else {
+                    int[] ids = list.ordinals;
+                    for (int i = 0; i < list.size; i++) {
+                        if (hits[ids[i]] > 0) {
+                            hits[ids[i]]++;
+                        }
+                    }
+                }
+            }
+
+            String wordPrefix = " " + foldedQuery;
+            PriorityQueue<TitleMatch> best = new PriorityQueue<>(limit + 1,
+                    (a, b) -> Double.compare(a.score(), b.score()));
+            for (int i = 0; i < touchedCount; i++) {
+                int ordinal = touched[i];
+                int shared = hits[ordinal];
+                hits[ordinal] = 0;
+                if (shared < minHits) {
+                    continue;
+                }
+
+                // Most candidates of a short prefix cannot beat the current top results even with
+                // the best title bonus, so skip them before comparing any strings
+                double similarity = similarity(queryTrigrams.length, ordinal, shared);
+                if (best.size() == limit && similarity + MAX_TITLE_BONUS <= best.peek().score()) {
+                    continue;
+                }
+
+                double score = similarity + titleBonus(foldedQuery, wordPrefix, ordinal);
+                if (best.size() < limit) {
+                    best.add(new TitleMatch(gameIds[ordinal], score));
+                } else if (score > best.peek().score()) {
+                    best.poll();
+                    best.add(new TitleMatch(gameIds[ordinal], score));
+                }
+            }
+
+            // Every touched counter was reset above; a search that throws drops its scratch instead
+            Scratch.release(scratch);
+
+            List<TitleMatch> ranked = new ArrayList<>(best);
+            ranked.sort((a, b) -> Double.compare(b.score(), a.score()));
+            return ranked;
+        }
+
+        // Query coverage dominates; Jaccard similarity favours titles without much extra text
+        private double similarity(int queryTrigramCount, int ordinal, int shared) {
+            int titleTrigramCount = titleTrigrams[ordinal].length;
+            double coverage = (double) shared / queryTrigramCount;
+            double jaccard = (double) shared / (queryTrigramCount + titleTrigramCount - shared);
+            return coverage + 0.5 * jaccard;
+        }
+
+        // Exact or prefix matches on the folded title rank above fuzzy ones
+        private double titleBonus(String foldedQuery, String wordPrefix, int ordinal) {
+            String title = foldedTitles[ordinal];
+            if (title.equals(foldedQuery)) {
+                return MAX_TITLE_BONUS;
+            } else if (title.startsWith(foldedQuery)) {
+                return 0.3;
+            } else if (title.contains(wordPrefix)) {
+                return 0.15;
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.gamerscove.index;
+
+import org.example.gamerscove.domain.entities.GameEntity;
+
+import java.util.List;
+
+// Published by GameService after games are inserted or updated; the games carry their ids and interned tags
+public record GamesChangedEvent(List<GameEntity> games) {
+}
@@ -0,0 +1,86 @@
+package org.example.gamerscove.index;
+
+import java.util.Arrays;
+
+/**
+ * Growable bitset over dense game ordinals. Unlike {@link java.util.BitSet} it can count an
+ * intersection without materializing it, which is what facet counting does for every value.
+ * Not thread-safe; {@link GameFacetIndex} guards access.
+ */
+final class OrdinalBitmap {
+
+    private long[] words;
+
+    OrdinalBitmap() {
+        this(64);
+    }
+
+    OrdinalBitmap(int expectedBits) {
+        this.words = new long[Math.max(1, (expectedBits + 63) >>> 6)];
+    }
+
+    private OrdinalBitmap(long[] words) {
+        this.words = words;
+    }
+
+    void set(int bit) {
+        int word = bit >>> 6;
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+        }
+        words[word] |= 1L << bit;
+    }
+
+    void clear(int bit) {
+        int word = bit >>> 6;
+        if (word < words.length) {
+            words[word] &= ~(1L << bit);
+        }
+    }
+
+    int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    // |this AND other| without allocating
+    int andCardinality(OrdinalBitmap other) {
+        int length = Math.min(words.length, other.words.length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    // Returns a new bitmap holding this AND other
+    OrdinalBitmap and(OrdinalBitmap other) {
+        int length = Math.min(words.length, other.words.length);
+        long[] result = new long[Math.max(1, length)];
+        for (int i = 0; i < length; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new OrdinalBitmap(result);
+    }
+
+    // Index of the first set bit at or after fromIndex, or -1
+    int nextSetBit(int fromIndex) {
+        int word = fromIndex >>> 6;
+        if (word >= words.length) {
+            return -1;
+        }
+        long current = words[word] & (-1L << fromIndex);
+        while (true) {
+            if (current != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(current);
+            }
+            if (++word == words.length) {
+                return -1;
+            }
+            current = words[word];
+        }
+    }
+}
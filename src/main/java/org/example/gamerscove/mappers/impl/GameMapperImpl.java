@@ -17,8 +17,8 @@ public class GameMapperImpl implements Mapper<GameEntity, GameDto> {
                 .description(gameEntity.getDescription())
                 .coverImageUrl(gameEntity.getCoverImageUrl())
                 .releaseDate(gameEntity.getReleaseDate())
-                .platforms(gameEntity.getPlatforms())
-                .genres(gameEntity.getGenres())
+                .platforms(gameEntity.getPlatformNames())
+                .genres(gameEntity.getGenreNames())
                 .build();
     }
 
@@ -33,8 +33,8 @@ public class GameMapperImpl implements Mapper<GameEntity, GameDto> {
                 .releaseDate(gameDto.getReleaseDate())
                 .build();
 
-        gameEntity.setPlatforms(gameDto.getPlatforms());
-        gameEntity.setGenres(gameDto.getGenres());
+        gameEntity.setPlatformNames(gameDto.getPlatforms());
+        gameEntity.setGenreNames(gameDto.getGenres());
 
         return gameEntity;
     }
@@ -0,0 +1,68 @@
+package org.example.gamerscove.mappers.impl;
+
+import org.example.gamerscove.domain.dto.IGDBGameResponseDto;
+import org.example.gamerscove.domain.entities.GameEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+@Component
+public class IgdbGameConverter {
+
+    public static final String EXTERNAL_ID_PREFIX = "igdb_";
+
+    private static final int MAX_TITLE_LENGTH = 200;
+
+    public GameEntity toGameEntity(IGDBGameResponseDto igdbGame) {
+        GameEntity gameEntity = new GameEntity();
+
+        // Set required fields
+        gameEntity.setExternalApiId(EXTERNAL_ID_PREFIX + igdbGame.getId());
+        gameEntity.setTitle(truncate(igdbGame.getName()));
+        gameEntity.setDescription(igdbGame.getSummary() != null ? igdbGame.getSummary() : "No description available");
+
+        // Set cover image URL using IGDB's image service
+        if (igdbGame.getCover() != null && igdbGame.getCover().getImageId() != null) {
+            String coverUrl = "https://images.igdb.com/igdb/image/upload/t_cover_big/" +
+                    igdbGame.getCover().getImageId() + ".jpg";
+            gameEntity.setCoverImageUrl(coverUrl);
+        } else {
+            gameEntity.setCoverImageUrl(""); // Default empty if no cover
+        }
+
+        // Convert Unix timestamp to LocalDate
+        if (igdbGame.getFirstReleaseDate() != null) {
+            LocalDate releaseDate = Instant.ofEpochSecond(igdbGame.getFirstReleaseDate())
+                    .atZone(ZoneId.systemDefault())
+                    .toLocalDate();
+            gameEntity.setReleaseDate(releaseDate);
+        }
+
+        // Convert platforms list to String array
+        if (igdbGame.getPlatforms() != null && !igdbGame.getPlatforms().isEmpty()) {
+            String[] platforms = igdbGame.getPlatforms().stream()
+                    .map(IGDBGameResponseDto.IGDBPlatform::getName)
+                    .toArray(String[]::new);
+            gameEntity.setPlatformNames(platforms);
+        }
+
+        // Convert genres list to String array
+        if (igdbGame.getGenres() != null && !igdbGame.getGenres().isEmpty()) {
+            String[] genres = igdbGame.getGenres().stream()
+                    .map(IGDBGameResponseDto.IGDBGenre::getName)
+                    .toArray(String[]::new);
+            gameEntity.setGenreNames(genres);
+        }
+
+        return gameEntity;
+    }
+
+    private String truncate(String title) {
+        if (title == null) {
+            return "Untitled";
+        }
+        return title.length() <= MAX_TITLE_LENGTH ? title : title.substring(0, MAX_TITLE_LENGTH);
+    }
+}
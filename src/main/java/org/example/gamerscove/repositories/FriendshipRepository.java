@@ -0,0 +1,32 @@
+package org.example.gamerscove.repositories;
+
+import jakarta.persistence.LockModeType;
+import org.example.gamerscove.domain.entities.FriendshipEntity;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+// Pair lookups take the normalized (low, high) ids; see FriendshipEntity.normalizePair()
+@Repository
+public interface FriendshipRepository extends CrudRepository<FriendshipEntity, Long>, FriendshipRepositoryCustom {
+
+    Optional<FriendshipEntity> findByUserLowIdAndUserHighId(Long userLowId, Long userHighId);
+
+    // Row-locks the pair's edge so concurrent state changes on one pair apply one at a time
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from FriendshipEntity f where f.userLowId = :userLowId and f.userHighId = :userHighId")
+    Optional<FriendshipEntity> findPairForUpdate(@Param("userLowId") Long userLowId, @Param("userHighId") Long userHighId);
+
+    // Incoming requests; the OR is answered by a bitmap OR of the two per-side indexes
+    @Query("select f from FriendshipEntity f " +
+            "where (f.userLowId = :userId or f.userHighId = :userId) " +
+            "and f.status = org.example.gamerscove.domain.entities.FriendshipEntity.FriendshipStatus.PENDING " +
+            "and f.receiverId = :userId " +
+            "order by f.createdAt desc")
+    List<FriendshipEntity> findPendingRequestsTo(@Param("userId") Long userId);
+}
@@ -0,0 +1,24 @@
+package org.example.gamerscove.repositories;
+
+import org.example.gamerscove.domain.dto.FriendDto;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+public interface FriendshipRepositoryCustom {
+
+    // Ids of the user's accepted friends
+    List<Long> findFriendIds(Long userId);
+
+    // Accepted friends with their display fields, ordered by username
+    List<FriendDto> findFriends(Long userId);
+
+    // Users who are accepted friends of both a and b, ordered by username
+    List<FriendDto> findMutualFriends(Long userId, Long otherUserId);
+
+    // Streams every accepted pair as (user_low_id, user_high_id); used to build the in-memory friend graph
+    void forEachAcceptedPair(BiConsumer<Long, Long> consumer);
+
+    // Streams every pair that has a row but is not accepted (pending, declined or blocked)
+    void forEachUnacceptedPair(BiConsumer<Long, Long> consumer);
+}
@@ -0,0 +1,72 @@
+package org.example.gamerscove.repositories;
+
+import org.example.gamerscove.domain.dto.FriendDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+public class FriendshipRepositoryCustomImpl implements FriendshipRepositoryCustom {
+
+    // A user's friends are the other ends of their accepted edges. Each half is an index-only range
+    // scan on one of the (side, status, other side) indexes, so no friendship rows are visited.
+    private static final String FRIEND_IDS_SQL =
+            "SELECT f.user_high_id AS friend_id FROM friendships f WHERE f.user_low_id = ? AND f.status = 'ACCEPTED' " +
+            "UNION ALL " +
+            "SELECT f.user_low_id FROM friendships f WHERE f.user_high_id = ? AND f.status = 'ACCEPTED'";
+
+    private static final String FRIENDS_SQL =
+            "SELECT u.id, u.username, u.avatar_url FROM (" + FRIEND_IDS_SQL + ") friends " +
+            "JOIN users u ON u.id = friends.friend_id ORDER BY u.username";
+
+    private static final String MUTUAL_FRIENDS_SQL =
+            "SELECT u.id, u.username, u.avatar_url FROM (" +
+            "(" + FRIEND_IDS_SQL + ") INTERSECT (" + FRIEND_IDS_SQL + ")" +
+            ") mutual JOIN users u ON u.id = mutual.friend_id ORDER BY u.username";
+
+    // One sequential pass over the table, run when the friend graph is (re)built
+    private static final String ACCEPTED_PAIRS_SQL =
+            "SELECT f.user_low_id, f.user_high_id FROM friendships f WHERE f.status = 'ACCEPTED'";
+
+    private static final String UNACCEPTED_PAIRS_SQL =
+            "SELECT f.user_low_id, f.user_high_id FROM friendships f WHERE f.status <> 'ACCEPTED'";
+
+    private static final RowMapper<FriendDto> FRIEND_ROW_MAPPER = (rs, rowNum) ->
+            new FriendDto(rs.getLong("id"), rs.getString("username"), rs.getString("avatar_url"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FriendshipRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> findFriendIds(Long userId) {
+        return jdbcTemplate.queryForList(FRIEND_IDS_SQL, Long.class, userId, userId);
+    }
+
+    @Override
+    public List<FriendDto> findFriends(Long userId) {
+        return jdbcTemplate.query(FRIENDS_SQL, FRIEND_ROW_MAPPER, userId, userId);
+    }
+
+    @Override
+    public List<FriendDto> findMutualFriends(Long userId, Long otherUserId) {
+        return jdbcTemplate.query(MUTUAL_FRIENDS_SQL, FRIEND_ROW_MAPPER, userId, userId, otherUserId, otherUserId);
+    }
+
+    @Override
+    public void forEachAcceptedPair(BiConsumer<Long, Long> consumer) {
+        jdbcTemplate.query(ACCEPTED_PAIRS_SQL, rs -> {
+            consumer.accept(rs.getLong("user_low_id"), rs.getLong("user_high_id"));
+        });
+    }
+
+    @Override
+    public void forEachUnacceptedPair(BiConsumer<Long, Long> consumer) {
+        jdbcTemplate.query(UNACCEPTED_PAIRS_SQL, rs -> {
+            consumer.accept(rs.getLong("user_low_id"), rs.getLong("user_high_id"));
+        });
+    }
+}
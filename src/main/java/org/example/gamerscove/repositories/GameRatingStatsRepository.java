@@ -0,0 +1,38 @@
+package org.example.gamerscove.repositories;
+
+import org.example.gamerscove.domain.entities.GameRatingStatsEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GameRatingStatsRepository extends CrudRepository<GameRatingStatsEntity, Long> {
+
+    // Applies +delta reviews at the given rating as one atomic row update, creating the row on first use
+    @Modifying
+    @Query(value = "INSERT INTO game_rating_stats AS s (game_id, review_count, rating_sum, rating_histogram) " +
+            "VALUES (:gameId, :delta, :delta * :rating, " +
+            "(SELECT array_agg(CASE WHEN i = :rating THEN :delta ELSE 0 END ORDER BY i) FROM generate_series(1, 10) i)) " +
+            "ON CONFLICT (game_id) DO UPDATE SET " +
+            "review_count = s.review_count + :delta, " +
+            "rating_sum = s.rating_sum + :delta * :rating, " +
+            "rating_histogram[CAST(:rating AS int)] = s.rating_histogram[CAST(:rating AS int)] + :delta",
+            nativeQuery = true)
+    void applyDelta(@Param("gameId") Long gameId, @Param("rating") int rating, @Param("delta") int delta);
+
+    // Rebuilds missing aggregates from the reviews table; used once to backfill existing data
+    @Modifying
+    @Query(value = "INSERT INTO game_rating_stats (game_id, review_count, rating_sum, rating_histogram) " +
+            "SELECT r.game_id, count(*), sum(r.rating), CAST(ARRAY[" +
+            "count(*) FILTER (WHERE r.rating = 1), count(*) FILTER (WHERE r.rating = 2), " +
+            "count(*) FILTER (WHERE r.rating = 3), count(*) FILTER (WHERE r.rating = 4), " +
+            "count(*) FILTER (WHERE r.rating = 5), count(*) FILTER (WHERE r.rating = 6), " +
+            "count(*) FILTER (WHERE r.rating = 7), count(*) FILTER (WHERE r.rating = 8), " +
+            "count(*) FILTER (WHERE r.rating = 9), count(*) FILTER (WHERE r.rating = 10)] AS integer[]) " +
+            "FROM reviews r GROUP BY r.game_id " +
+            "ON CONFLICT (game_id) DO NOTHING",
+            nativeQuery = true)
+    int backfillFromReviews();
+}
@@ -1,10 +1,28 @@
 package org.example.gamerscove.repositories;
 
 import org.example.gamerscove.domain.entities.GameEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
-public interface GameRepository extends CrudRepository<GameEntity, Long> {
+public interface GameRepository extends CrudRepository<GameEntity, Long>, GameRepositoryCustom {
     Optional<GameEntity> findByTitle(String title);
+
+    // Loads the tags with the game; used where the entity outlives its session (the game cache)
+    @EntityGraph(attributePaths = {"platforms", "genres"})
+    Optional<GameEntity> findWithTagsById(Long id);
+
+    // Keyset (seek) pagination: walks the primary key index instead of using OFFSET
+    List<GameEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Set-based existence check served by the unique index on external_api_id
+    @Query("select g.externalApiId from GameEntity g where g.externalApiId in :externalApiIds")
+    Set<String> findExistingExternalApiIds(@Param("externalApiIds") Collection<String> externalApiIds);
 }
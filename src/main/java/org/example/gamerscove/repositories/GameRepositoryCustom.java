@@ -0,0 +1,20 @@
+package org.example.gamerscove.repositories;
+
+import org.example.gamerscove.domain.dto.GameSummaryDto;
+import org.example.gamerscove.domain.dto.GameUpsertResultDto;
+import org.example.gamerscove.domain.entities.GameEntity;
+
+import java.util.List;
+
+public interface GameRepositoryCustom {
+
+    // Inserts or updates the given games keyed on external_api_id and syncs their tag join rows.
+    // Tags must already be interned (carry dictionary ids). Assigns the database id to each game.
+    GameUpsertResultDto upsertAll(List<GameEntity> games);
+
+    // Keyset page of games carrying the given platform and/or genre (null means no filter)
+    List<GameEntity> findPageByTags(long afterId, Integer platformId, Integer genreId, int limit);
+
+    // Summaries with rating aggregates for the given ids, in one statement; unknown ids are skipped
+    List<GameSummaryDto> findSummariesByIds(long[] gameIds);
+}
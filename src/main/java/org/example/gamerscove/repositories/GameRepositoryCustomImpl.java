@@ -0,0 +1,274 @@
+package org.example.gamerscove.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.example.gamerscove.domain.dto.GameSummaryDto;
+import org.example.gamerscove.domain.dto.GameUpsertResultDto;
+import org.example.gamerscove.domain.entities.GameEntity;
+import org.example.gamerscove.domain.entities.TagEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+public class GameRepositoryCustomImpl implements GameRepositoryCustom {
+
+    // The whole batch is bound as parallel arrays and unnested server-side, so a batch costs one
+    // round trip. Rows whose columns are unchanged are skipped by the WHERE clause, which keeps
+    // repeat imports from rewriting (and bloating) every row. xmax = 0 only for freshly inserted rows.
+    // The second half reports the skipped rows too, but only those visible in the statement's
+    // snapshot: a row a concurrent upsert inserted, which ON CONFLICT waited on and then left
+    // unchanged, comes back from neither half. upsertAll looks those up in a fresh statement.
+    private static final String UPSERT_SQL =
+            "WITH input AS (" +
+            "SELECT * FROM unnest(?::varchar[], ?::varchar[], ?::text[], ?::text[], ?::date[]) " +
+            "AS t(external_api_id, title, description, cover_image_url, release_date)" +
+            "), written AS (" +
+            "INSERT INTO games (external_api_id, title, description, cover_image_url, release_date) " +
+            "SELECT * FROM input " +
+            "ON CONFLICT (external_api_id) DO UPDATE SET " +
+            "title = EXCLUDED.title, " +
+            "description = EXCLUDED.description, " +
+            "cover_image_url = EXCLUDED.cover_image_url, " +
+            "release_date = EXCLUDED.release_date " +
+            "WHERE (games.title, games.description, games.cover_image_url, games.release_date) " +
+            "IS DISTINCT FROM (EXCLUDED.title, EXCLUDED.description, EXCLUDED.cover_image_url, EXCLUDED.release_date) " +
+            "RETURNING id, external_api_id, (xmax = 0) AS inserted" +
+            ") " +
+            "SELECT id, external_api_id, inserted FROM written " +
+            "UNION ALL " +
+            "SELECT g.id, g.external_api_id, NULL FROM games g JOIN input i ON i.external_api_id = g.external_api_id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM written w WHERE w.external_api_id = g.external_api_id)";
+
+    // Run as its own statement, so its snapshot includes rows concurrent upserts committed meanwhile
+    private static final String IDS_BY_EXTERNAL_IDS_SQL =
+            "SELECT id, external_api_id FROM games WHERE external_api_id = ANY(?::varchar[])";
+
+    // Makes the join rows of the given games exactly match the wanted (game, tag) pairs, touching
+    // only rows that differ, and returns the ids of games whose tags changed
+    private static final String SYNC_TAGS_SQL =
+            "WITH wanted AS (" +
+            "SELECT * FROM unnest(?::bigint[], ?::int[]) AS t(game_id, tag_id)" +
+            "), removed AS (" +
+            "DELETE FROM %1$s gt WHERE gt.game_id = ANY(?::bigint[]) " +
+            "AND NOT EXISTS (SELECT 1 FROM wanted w WHERE w.game_id = gt.game_id AND w.tag_id = gt.%2$s) " +
+            "RETURNING gt.game_id" +
+            "), added AS (" +
+            "INSERT INTO %1$s (game_id, %2$s) SELECT game_id, tag_id FROM wanted " +
+            "ON CONFLICT DO NOTHING RETURNING game_id" +
+            ") " +
+            "SELECT game_id FROM removed UNION SELECT game_id FROM added";
+
+    // The ids are bound as one bigint[] parameter, so the statement text (and its cached plan)
+    // is the same whatever the number of ids
+    private static final String SUMMARIES_SQL =
+            "SELECT g.id, g.title, g.cover_image_url, g.release_date, s.review_count, s.rating_sum " +
+            "FROM games g LEFT JOIN game_rating_stats s ON s.game_id = g.id " +
+            "WHERE g.id = ANY(?) ORDER BY g.id";
+
+    private static final String SYNC_PLATFORMS_SQL = String.format(SYNC_TAGS_SQL, "game_platforms", "platform_id");
+    private static final String SYNC_GENRES_SQL = String.format(SYNC_TAGS_SQL, "game_genres", "genre_id");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public GameRepositoryCustomImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public GameUpsertResultDto upsertAll(List<GameEntity> games) {
+        if (games.isEmpty()) {
+            return GameUpsertResultDto.empty();
+        }
+
+        // ON CONFLICT cannot touch the same row twice in one statement, so keep the last duplicate
+        Map<String, GameEntity> byExternalId = new LinkedHashMap<>();
+        for (GameEntity game : games) {
+            byExternalId.put(game.getExternalApiId(), game);
+        }
+        List<GameEntity> distinctGames = new ArrayList<>(byExternalId.values());
+
+        Map<String, Long> idsByExternalId = new HashMap<>();
+        Set<Long> insertedIds = new HashSet<>();
+        Set<Long> updatedIds = new HashSet<>();
+        jdbcTemplate.query(connection -> prepareUpsert(connection, distinctGames), rs -> {
+            long id = rs.getLong("id");
+            idsByExternalId.put(rs.getString("external_api_id"), id);
+            boolean inserted = rs.getBoolean("inserted");
+            if (!rs.wasNull()) {
+                (inserted ? insertedIds : updatedIds).add(id);
+            }
+        });
+        if (idsByExternalId.size() < distinctGames.size()) {
+            findMissingIds(distinctGames, idsByExternalId);
+        }
+
+        Set<Long> retaggedIds = new HashSet<>();
+        retaggedIds.addAll(syncTags(SYNC_PLATFORMS_SQL, distinctGames, idsByExternalId, GameEntity::getPlatforms));
+        retaggedIds.addAll(syncTags(SYNC_GENRES_SQL, distinctGames, idsByExternalId, GameEntity::getGenres));
+        retaggedIds.removeAll(insertedIds);
+        updatedIds.addAll(retaggedIds);
+
+        for (GameEntity game : distinctGames) {
+            game.setId(idsByExternalId.get(game.getExternalApiId()));
+        }
+
+        Set<Long> writtenIds = new HashSet<>(insertedIds);
+        writtenIds.addAll(updatedIds);
+        return GameUpsertResultDto.builder()
+                .inserted(insertedIds.size())
+                .updated(updatedIds.size())
+                .unchanged(distinctGames.size() - insertedIds.size() - updatedIds.size())
+                .writtenIds(writtenIds)
+                .build();
+    }
+
+    @Override
+    public List<GameEntity> findPageByTags(long afterId, Integer platformId, Integer genreId, int limit) {
+        // Each filter is an inner join on its (tag_id, game_id) index; a game has at most one
+        // join row per tag, so the joins cannot duplicate games
+        StringBuilder jpql = new StringBuilder("select g from GameEntity g");
+        if (platformId != null) {
+            jpql.append(" join g.platforms p");
+        }
+        if (genreId != null) {
+            jpql.append(" join g.genres ge");
+        }
+        jpql.append(" where g.id > :afterId");
+        if (platformId != null) {
+            jpql.append(" and p.id = :platformId");
+        }
+        if (genreId != null) {
+            jpql.append(" and ge.id = :genreId");
+        }
+        jpql.append(" order by g.id");
+
+        TypedQuery<GameEntity> query = entityManager.createQuery(jpql.toString(), GameEntity.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit);
+        if (platformId != null) {
+            query.setParameter("platformId", platformId);
+        }
+        if (genreId != null) {
+            query.setParameter("genreId", genreId);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public List<GameSummaryDto> findSummariesByIds(long[] gameIds) {
+        if (gameIds.length == 0) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SUMMARIES_SQL);
+            // The Postgres driver binds a primitive long[] straight to bigint[], without boxing
+            ps.setObject(1, gameIds);
+            return ps;
+        }, (rs, rowNum) -> {
+            long reviewCount = rs.getLong("review_count");
+            Date releaseDate = rs.getDate("release_date");
+            return GameSummaryDto.builder()
+                    .id(rs.getLong("id"))
+                    .title(rs.getString("title"))
+                    .coverImageUrl(rs.getString("cover_image_url"))
+                    .releaseDate(releaseDate != null ? releaseDate.toLocalDate() : null)
+                    .reviewCount(reviewCount)
+                    .averageRating(reviewCount > 0 ? (double) rs.getLong("rating_sum") / reviewCount : null)
+                    .build();
+        });
+    }
+
+    // Games another transaction inserted while the upsert waited on them; left unchanged, so counted as such
+    private void findMissingIds(List<GameEntity> games, Map<String, Long> idsByExternalId) {
+        String[] missing = games.stream()
+                .map(GameEntity::getExternalApiId)
+                .filter(externalId -> !idsByExternalId.containsKey(externalId))
+                .toArray(String[]::new);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(IDS_BY_EXTERNAL_IDS_SQL);
+            ps.setArray(1, connection.createArrayOf("varchar", missing));
+            return ps;
+        }, rs -> {
+            idsByExternalId.put(rs.getString("external_api_id"), rs.getLong("id"));
+        });
+
+        if (idsByExternalId.size() < games.size()) {
+            throw new IllegalStateException("Upserted games without an id: " + Arrays.stream(missing)
+                    .filter(externalId -> !idsByExternalId.containsKey(externalId))
+                    .toList());
+        }
+    }
+
+    private static PreparedStatement prepareUpsert(Connection connection, List<GameEntity> games) throws SQLException {
+        int size = games.size();
+        String[] externalIds = new String[size];
+        String[] titles = new String[size];
+        String[] descriptions = new String[size];
+        String[] coverUrls = new String[size];
+        Date[] releaseDates = new Date[size];
+
+        for (int i = 0; i < size; i++) {
+            GameEntity game = games.get(i);
+            externalIds[i] = game.getExternalApiId();
+            titles[i] = game.getTitle();
+            descriptions[i] = game.getDescription();
+            coverUrls[i] = game.getCoverImageUrl();
+            releaseDates[i] = game.getReleaseDate() != null ? Date.valueOf(game.getReleaseDate()) : null;
+        }
+
+        PreparedStatement ps = connection.prepareStatement(UPSERT_SQL);
+        ps.setArray(1, connection.createArrayOf("varchar", externalIds));
+        ps.setArray(2, connection.createArrayOf("varchar", titles));
+        ps.setArray(3, connection.createArrayOf("text", descriptions));
+        ps.setArray(4, connection.createArrayOf("text", coverUrls));
+        ps.setArray(5, connection.createArrayOf("date", releaseDates));
+        return ps;
+    }
+
+    private Set<Long> syncTags(String sql, List<GameEntity> games, Map<String, Long> idsByExternalId,
+                               Function<GameEntity, Collection<? extends TagEntity>> tagsOf) {
+        Long[] gameIds = new Long[games.size()];
+        List<Long> pairGameIds = new ArrayList<>();
+        List<Integer> pairTagIds = new ArrayList<>();
+
+        for (int i = 0; i < games.size(); i++) {
+            GameEntity game = games.get(i);
+            gameIds[i] = idsByExternalId.get(game.getExternalApiId());
+            for (TagEntity tag : tagsOf.apply(game)) {
+                if (tag.getId() == null) {
+                    throw new IllegalStateException("Tag '" + tag.getName() + "' has not been interned");
+                }
+                pairGameIds.add(gameIds[i]);
+                pairTagIds.add(tag.getId());
+            }
+        }
+
+        Set<Long> changedIds = new HashSet<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setArray(1, connection.createArrayOf("bigint", pairGameIds.toArray()));
+            ps.setArray(2, connection.createArrayOf("int", pairTagIds.toArray()));
+            ps.setArray(3, connection.createArrayOf("bigint", gameIds));
+            return ps;
+        }, rs -> {
+            changedIds.add(rs.getLong("game_id"));
+        });
+        return changedIds;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.gamerscove.repositories;
+
+import org.example.gamerscove.domain.entities.IgdbSyncStateEntity;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IgdbSyncStateRepository extends CrudRepository<IgdbSyncStateEntity, String> {
+}
@@ -0,0 +1,28 @@
+package org.example.gamerscove.repositories;
+
+import org.example.gamerscove.domain.entities.PlatformEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PlatformRepository extends CrudRepository<PlatformEntity, Integer> {
+
+    List<PlatformEntity> findByNameKeyIn(Collection<String> nameKeys);
+
+    // Commits on its own so an interned id never points at a row a rolled-back caller removed
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT INTO platforms (name, name_key) " +
+            "SELECT * FROM unnest(CAST(:names AS varchar[]), CAST(:nameKeys AS varchar[])) " +
+            "ON CONFLICT (name_key) DO NOTHING",
+            nativeQuery = true)
+    int insertMissing(@Param("names") String[] names, @Param("nameKeys") String[] nameKeys);
+}
@@ -4,12 +4,11 @@ import org.example.gamerscove.domain.entities.ReviewEntity;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.Optional;
-
 @Repository
-public interface ReviewRepository extends CrudRepository<ReviewEntity, Long> {
+public interface ReviewRepository extends CrudRepository<ReviewEntity, Long>, ReviewRepositoryCustom {
 
-    List<ReviewEntity> findByUser_Id(Long userId);
-    List<ReviewEntity> findByGame_Id(Long gameId);
-}
\ No newline at end of file
+    // Projections select only the columns a listing shows, in one statement with no entity hydration
+    String SUMMARY_SELECT = "select new org.example.gamerscove.domain.dto.ReviewSummaryDto(" +
+            "r.id, r.rating, r.content, r.createdAt, u.id, u.username, u.avatarUrl, g.id, g.title) " +
+            "from ReviewEntity r join r.user u join r.game g ";
+}
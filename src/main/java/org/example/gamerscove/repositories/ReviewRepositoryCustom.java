@@ -0,0 +1,25 @@
+package org.example.gamerscove.repositories;
+
+import org.example.gamerscove.domain.dto.ReviewSummaryDto;
+import org.example.gamerscove.domain.pagination.ReviewCursor;
+import org.example.gamerscove.domain.pagination.ReviewSearchCursor;
+import org.example.gamerscove.domain.pagination.ReviewSort;
+
+import java.util.List;
+
+public interface ReviewRepositoryCustom {
+
+    // Keyset pages over one game's or one user's reviews; a null cursor returns the first page
+    List<ReviewSummaryDto> findGameReviewPage(Long gameId, ReviewSort sort, ReviewCursor after, int limit);
+
+    List<ReviewSummaryDto> findUserReviewPage(Long userId, ReviewSort sort, ReviewCursor after, int limit);
+
+    // Full-text matches for a websearch-style query, best ranked first; a null gameId searches every game
+    List<ReviewSummaryDto> searchReviews(String query, Long gameId, ReviewSearchCursor after, int limit);
+
+    // Summaries of the given reviews in no particular order; ids that no longer exist are skipped
+    List<ReviewSummaryDto> findSummariesByIds(long[] reviewIds);
+
+    // The newest review ids (below beforeId, when given) across the given authors, newest first
+    List<Long> findRecentReviewIdsByUsers(long[] userIds, Long beforeId, int limit);
+}
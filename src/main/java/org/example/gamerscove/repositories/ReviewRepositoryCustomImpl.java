@@ -0,0 +1,150 @@
+package org.example.gamerscove.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.example.gamerscove.domain.dto.ReviewSummaryDto;
+import org.example.gamerscove.domain.pagination.ReviewCursor;
+import org.example.gamerscove.domain.pagination.ReviewSearchCursor;
+import org.example.gamerscove.domain.pagination.ReviewSort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
+
+    // Matching goes through the GIN index on the generated search_vector column; only the matched
+    // rows are ranked. The rank is computed in the inner query so the outer seek and ORDER BY can
+    // use it, and Postgres returns just one page of review rows to the JVM.
+    private static final String SEARCH_SELECT =
+            "SELECT * FROM (" +
+            "SELECT r.id, r.rating, r.content, r.created_at, u.id AS user_id, u.username, u.avatar_url, " +
+            "g.id AS game_id, g.title AS game_title, ts_rank(r.search_vector, q.query) AS rank " +
+            "FROM reviews r " +
+            "JOIN users u ON u.id = r.user_id " +
+            "JOIN games g ON g.id = r.game_id " +
+            "CROSS JOIN websearch_to_tsquery('english', ?) AS q(query) " +
+            "WHERE r.search_vector @@ q.query ";
+
+    // One short descent of idx_reviews_user_id per author, each stopping after `limit` rows below the id cursor
+    private static final String RECENT_IDS_BY_USERS_SQL =
+            "SELECT recent.id FROM unnest(CAST(? AS bigint[])) AS a(user_id) " +
+            "CROSS JOIN LATERAL (" +
+            "SELECT r.id FROM reviews r WHERE r.user_id = a.user_id AND r.id < ? " +
+            "ORDER BY r.id DESC LIMIT ?" +
+            ") recent ORDER BY recent.id DESC LIMIT ?";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReviewRepositoryCustomImpl(EntityManager entityManager, JdbcTemplate jdbcTemplate) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<ReviewSummaryDto> findGameReviewPage(Long gameId, ReviewSort sort, ReviewCursor after, int limit) {
+        return findPage("g.id", gameId, sort, after, limit);
+    }
+
+    @Override
+    public List<ReviewSummaryDto> findUserReviewPage(Long userId, ReviewSort sort, ReviewCursor after, int limit) {
+        return findPage("u.id", userId, sort, after, limit);
+    }
+
+    // Each sort's seek predicate is a row-value comparison on the same columns as its
+    // (owner, ..., created_at, id) index, so Postgres resumes the index scan right after the cursor
+    private List<ReviewSummaryDto> findPage(String ownerColumn, Long ownerId, ReviewSort sort, ReviewCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder(ReviewRepository.SUMMARY_SELECT)
+                .append("where ").append(ownerColumn).append(" = :ownerId ");
+
+        if (after != null) {
+            switch (sort) {
+                case NEWEST -> jpql.append("and (r.createdAt, r.id) < (:createdAt, :id) ");
+                case HIGHEST_RATED -> jpql.append("and (r.rating, r.createdAt, r.id) < (:rating, :createdAt, :id) ");
+                case LOWEST_RATED -> jpql.append("and (r.rating, r.createdAt, r.id) > (:rating, :createdAt, :id) ");
+            }
+        }
+
+        switch (sort) {
+            case NEWEST -> jpql.append("order by r.createdAt desc, r.id desc");
+            case HIGHEST_RATED -> jpql.append("order by r.rating desc, r.createdAt desc, r.id desc");
+            case LOWEST_RATED -> jpql.append("order by r.rating asc, r.createdAt asc, r.id asc");
+        }
+
+        TypedQuery<ReviewSummaryDto> query = entityManager.createQuery(jpql.toString(), ReviewSummaryDto.class)
+                .setParameter("ownerId", ownerId)
+                .setMaxResults(limit);
+
+        if (after != null) {
+            query.setParameter("createdAt", after.createdAt());
+            query.setParameter("id", after.id());
+            if (sort != ReviewSort.NEWEST) {
+                query.setParameter("rating", after.rating());
+            }
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public List<ReviewSummaryDto> searchReviews(String query, Long gameId, ReviewSearchCursor after, int limit) {
+        StringBuilder sql = new StringBuilder(SEARCH_SELECT);
+        List<Object> args = new ArrayList<>();
+        args.add(query);
+
+        if (gameId != null) {
+            sql.append("AND r.game_id = ? ");
+            args.add(gameId);
+        }
+        sql.append(") hits ");
+        if (after != null) {
+            sql.append("WHERE (hits.rank, hits.id) < (CAST(? AS real), ?) ");
+            args.add(after.rank());
+            args.add(after.id());
+        }
+        sql.append("ORDER BY hits.rank DESC, hits.id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> toSearchHit(rs), args.toArray());
+    }
+
+    private static ReviewSummaryDto toSearchHit(ResultSet rs) throws SQLException {
+        return new ReviewSummaryDto(
+                rs.getLong("id"),
+                rs.getInt("rating"),
+                rs.getString("content"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getLong("user_id"),
+                rs.getString("username"),
+                rs.getString("avatar_url"),
+                rs.getLong("game_id"),
+                rs.getString("game_title"),
+                rs.getFloat("rank"));
+    }
+
+    @Override
+    public List<ReviewSummaryDto> findSummariesByIds(long[] reviewIds) {
+        if (reviewIds.length == 0) {
+            return List.of();
+        }
+        return entityManager.createQuery(ReviewRepository.SUMMARY_SELECT + "where r.id in :ids", ReviewSummaryDto.class)
+                .setParameter("ids", Arrays.stream(reviewIds).boxed().toList())
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> findRecentReviewIdsByUsers(long[] userIds, Long beforeId, int limit) {
+        if (userIds.length == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.query(RECENT_IDS_BY_USERS_SQL, ps -> {
+            ps.setObject(1, userIds);
+            ps.setLong(2, beforeId == null ? Long.MAX_VALUE : beforeId);
+            ps.setInt(3, limit);
+            ps.setInt(4, limit);
+        }, (rs, rowNum) -> rs.getLong("id"));
+    }
+}
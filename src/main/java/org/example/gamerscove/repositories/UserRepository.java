@@ -1,13 +1,48 @@
 package org.example.gamerscove.repositories;
 
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.example.gamerscove.domain.entities.UserEntity;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends CrudRepository<UserEntity, Long> {
+public interface UserRepository extends CrudRepository<UserEntity, Long>, UserRepositoryCustom {
+    // Lookups that feed the user cache fetch the gamertags up front, since cached users outlive their session
+    @EntityGraph(attributePaths = "gamertags")
     Optional<UserEntity> findByFirebaseUid(String firebaseUid);
+
+    @EntityGraph(attributePaths = "gamertags")
     Optional<UserEntity> findByUsername(String username);
+
+    @EntityGraph(attributePaths = "gamertags")
+    Optional<UserEntity> findWithGamertagsById(Long id);
+
+    // Array containment is served by the GIN index on favorite_game_ids
+    @Query(value = "SELECT u.id FROM users u WHERE u.favorite_game_ids @> ARRAY[CAST(:gameId AS bigint)] " +
+            "ORDER BY u.id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByFavoriteGameId(@Param("gameId") Long gameId, @Param("limit") int limit);
+
+    // Single-statement favorite edits: the row lock serializes concurrent edits of one user and
+    // the new array is computed from the locked row, so no update is lost. The array stays
+    // sorted and distinct. Both return 0 when the user does not exist.
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE users SET favorite_game_ids = CASE " +
+            "WHEN favorite_game_ids @> ARRAY[CAST(:gameId AS bigint)] THEN favorite_game_ids " +
+            "ELSE ARRAY(SELECT f.id FROM unnest(coalesce(favorite_game_ids, '{}') || CAST(:gameId AS bigint)) AS f(id) ORDER BY f.id) " +
+            "END WHERE id = :userId", nativeQuery = true)
+    int addFavoriteGameId(@Param("userId") Long userId, @Param("gameId") Long gameId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE users SET favorite_game_ids = array_remove(favorite_game_ids, CAST(:gameId AS bigint)) " +
+            "WHERE id = :userId", nativeQuery = true)
+    int removeFavoriteGameId(@Param("userId") Long userId, @Param("gameId") Long gameId);
 }
@@ -0,0 +1,11 @@
+package org.example.gamerscove.repositories;
+
+import org.example.gamerscove.graph.SuggestionProfile;
+
+import java.util.function.Consumer;
+
+public interface UserRepositoryCustom {
+
+    // Streams every user's suggestion profile; used by the periodic friend suggestion job
+    void forEachSuggestionProfile(Consumer<SuggestionProfile> consumer);
+}
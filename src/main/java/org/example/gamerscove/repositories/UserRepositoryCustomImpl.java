@@ -0,0 +1,59 @@
+package org.example.gamerscove.repositories;
+
+import org.example.gamerscove.graph.SuggestionProfile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String SUGGESTION_PROFILES_SQL =
+            "SELECT u.id, u.username, u.avatar_url, u.preferred_platforms, u.favorite_game_ids FROM users u";
+
+    private static final String[] NO_PLATFORMS = new String[0];
+    private static final long[] NO_GAME_IDS = new long[0];
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void forEachSuggestionProfile(Consumer<SuggestionProfile> consumer) {
+        jdbcTemplate.query(SUGGESTION_PROFILES_SQL, rs -> {
+            consumer.accept(new SuggestionProfile(rs.getLong("id"), rs.getString("username"),
+                    rs.getString("avatar_url"), platforms(rs.getString("preferred_platforms")),
+                    gameIds(rs.getArray("favorite_game_ids"))));
+        });
+    }
+
+    // preferred_platforms is stored comma-separated, see UserEntity.setPreferredPlatforms
+    private static String[] platforms(String stored) {
+        if (stored == null || stored.isBlank()) {
+            return NO_PLATFORMS;
+        }
+        return Arrays.stream(stored.split(","))
+                .map(platform -> platform.trim().toLowerCase(Locale.ROOT))
+                .filter(platform -> !platform.isEmpty())
+                .distinct()
+                .sorted()
+                .toArray(String[]::new);
+    }
+
+    private static long[] gameIds(Array stored) throws SQLException {
+        if (stored == null) {
+            return NO_GAME_IDS;
+        }
+        Object[] ids = (Object[]) stored.getArray();
+        long[] gameIds = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            gameIds[i] = ((Number) ids[i]).longValue();
+        }
+        return gameIds;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.gamerscove.repositories;
+
+import org.example.gamerscove.domain.entities.UserTimelineEntity;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserTimelineRepository extends CrudRepository<UserTimelineEntity, Long>, UserTimelineRepositoryCustom {
+}
@@ -0,0 +1,7 @@
+package org.example.gamerscove.repositories;
+
+public interface UserTimelineRepositoryCustom {
+
+    // Appends the review to each user's timeline, dropping the oldest ids beyond capacity
+    void appendReviewId(long[] userIds, long reviewId, int capacity);
+}
@@ -0,0 +1,34 @@
+package org.example.gamerscove.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class UserTimelineRepositoryCustomImpl implements UserTimelineRepositoryCustom {
+
+    // One statement for the whole fan-out: the follower ids are bound as one array and unnested
+    // server-side. Existing timelines get the id appended and are trimmed to the newest `capacity`
+    // entries by the slice (a lower bound below 1 selects from the start). Rows are locked in
+    // user id order, so concurrent fan-outs over overlapping followers do not deadlock.
+    private static final String APPEND_SQL =
+            "INSERT INTO user_timelines (user_id, review_ids) " +
+            "SELECT t.user_id, ARRAY[CAST(? AS bigint)] FROM unnest(CAST(? AS bigint[])) AS t(user_id) ORDER BY t.user_id " +
+            "ON CONFLICT (user_id) DO UPDATE SET review_ids = " +
+            "(user_timelines.review_ids || EXCLUDED.review_ids)[cardinality(user_timelines.review_ids) + 2 - ?:]";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserTimelineRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void appendReviewId(long[] userIds, long reviewId, int capacity) {
+        if (userIds.length == 0) {
+            return;
+        }
+        jdbcTemplate.update(APPEND_SQL, ps -> {
+            ps.setLong(1, reviewId);
+            ps.setObject(2, userIds);
+            ps.setInt(3, capacity);
+        });
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.gamerscove.services;
+
+import org.example.gamerscove.domain.dto.FriendSuggestionDto;
+
+import java.util.List;
+
+public interface FriendSuggestionService {
+    List<FriendSuggestionDto> getSuggestions(Long userId, int limit);
+    void refresh();
+}
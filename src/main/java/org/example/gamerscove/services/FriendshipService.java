@@ -0,0 +1,21 @@
+package org.example.gamerscove.services;
+
+import org.example.gamerscove.domain.dto.FriendDto;
+import org.example.gamerscove.domain.entities.FriendshipEntity;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface FriendshipService {
+    FriendshipEntity sendRequest(Long requesterId, Long receiverId);
+    FriendshipEntity acceptRequest(Long userId, Long requesterId);
+    FriendshipEntity declineRequest(Long userId, Long requesterId);
+    void removeFriendship(Long userId, Long otherUserId);
+    FriendshipEntity blockUser(Long userId, Long otherUserId);
+    void unblockUser(Long userId, Long otherUserId);
+    Optional<FriendshipEntity> findFriendship(Long userId, Long otherUserId);
+    boolean areFriends(Long userId, Long otherUserId);
+    List<FriendDto> findFriends(Long userId);
+    List<FriendDto> findMutualFriends(Long userId, Long otherUserId);
+    List<FriendshipEntity> findPendingRequests(Long userId);
+}
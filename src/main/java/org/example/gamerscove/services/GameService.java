@@ -1,13 +1,29 @@
 package org.example.gamerscove.services;
 
+import org.example.gamerscove.domain.dto.GameSummaryDto;
+import org.example.gamerscove.domain.dto.GameUpsertResultDto;
 import org.example.gamerscove.domain.entities.GameEntity;
+import org.example.gamerscove.domain.entities.GameRatingStatsEntity;
+import org.example.gamerscove.domain.pagination.CursorPage;
+import org.example.gamerscove.domain.pagination.FacetedPage;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface GameService {
     GameEntity createGameEntity(GameEntity gameEntity);
+    GameUpsertResultDto upsertGames(List<GameEntity> games);
+    Set<String> findExistingExternalApiIds(Collection<String> externalApiIds);
     Optional<GameEntity> findById(Long id);
     Optional<GameEntity> findTitle(String title);
-    List<GameEntity> findAll();
+    Map<Long, GameRatingStatsEntity> findRatingStats(Collection<Long> gameIds);
+    List<GameSummaryDto> findSummaries(long[] gameIds);
+    CursorPage<GameEntity> findPage(String cursor, int limit, String platform, String genre);
+    List<GameEntity> searchByTitle(String query, int limit);
+    FacetedPage<GameEntity> browse(String genre, String platform, Integer year, String cursor, int limit);
+    void forEachPage(int pageSize, Consumer<List<GameEntity>> pageConsumer);
 }
@@ -0,0 +1,9 @@
+package org.example.gamerscove.services;
+
+import org.example.gamerscove.domain.dto.IgdbImportStatusDto;
+
+public interface IgdbImportService {
+    boolean startCatalogImport(boolean restart);
+    IgdbImportStatusDto runCatalogImport(boolean restart);
+    IgdbImportStatusDto getStatus();
+}
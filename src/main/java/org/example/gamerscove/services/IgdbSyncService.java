@@ -0,0 +1,10 @@
+package org.example.gamerscove.services;
+
+import org.example.gamerscove.domain.dto.IgdbSyncStatusDto;
+
+public interface IgdbSyncService {
+    void scheduledSync();
+    boolean startSync();
+    IgdbSyncStatusDto runSync();
+    IgdbSyncStatusDto getStatus();
+}
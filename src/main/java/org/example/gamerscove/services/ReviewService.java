@@ -1,13 +1,15 @@
 package org.example.gamerscove.services;
 
+import org.example.gamerscove.domain.dto.ReviewSummaryDto;
 import org.example.gamerscove.domain.entities.ReviewEntity;
-
-import java.util.List;
+import org.example.gamerscove.domain.pagination.CursorPage;
+import org.example.gamerscove.domain.pagination.ReviewSort;
 
 public interface ReviewService {
     ReviewEntity createReviewEntity(ReviewEntity reviewEntity);
     ReviewEntity updateReviewEntity(ReviewEntity reviewEntity);
     void deleteReviewEntity(ReviewEntity reviewEntity);
-    List<ReviewEntity> findAllReviewsForGame_Id(Long id);
-    List<ReviewEntity> findAllReviewsForUser_Id(Long id);
+    CursorPage<ReviewSummaryDto> findReviewPageForGame_Id(Long id, ReviewSort sort, String cursor, int limit);
+    CursorPage<ReviewSummaryDto> findReviewPageForUser_Id(Long id, ReviewSort sort, String cursor, int limit);
+    CursorPage<ReviewSummaryDto> searchReviews(String query, Long gameId, String cursor, int limit);
 }
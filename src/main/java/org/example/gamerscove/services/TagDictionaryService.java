@@ -0,0 +1,15 @@
+package org.example.gamerscove.services;
+
+import org.example.gamerscove.domain.entities.GenreEntity;
+import org.example.gamerscove.domain.entities.PlatformEntity;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+public interface TagDictionaryService {
+    Set<PlatformEntity> internPlatforms(Collection<String> names);
+    Set<GenreEntity> internGenres(Collection<String> names);
+    Optional<PlatformEntity> findPlatform(String name);
+    Optional<GenreEntity> findGenre(String name);
+}
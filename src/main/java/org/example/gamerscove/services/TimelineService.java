@@ -0,0 +1,8 @@
+package org.example.gamerscove.services;
+
+import org.example.gamerscove.domain.dto.ReviewSummaryDto;
+import org.example.gamerscove.domain.pagination.CursorPage;
+
+public interface TimelineService {
+    CursorPage<ReviewSummaryDto> getFeed(Long userId, String cursor, int limit);
+}
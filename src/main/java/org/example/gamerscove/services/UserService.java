@@ -2,6 +2,7 @@ package org.example.gamerscove.services;
 
 import org.example.gamerscove.domain.entities.UserEntity;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserService {
@@ -11,4 +12,7 @@ public interface UserService {
     Optional<UserEntity> findByUsername(String username);
     Optional<UserEntity> findById(Long id);
     UserEntity updateUser(UserEntity userEntity);
+    List<UserEntity> findUsersWhoFavorited(Long gameId, int limit);
+    boolean addFavoriteGame(Long userId, Long gameId);
+    boolean removeFavoriteGame(Long userId, Long gameId);
 }
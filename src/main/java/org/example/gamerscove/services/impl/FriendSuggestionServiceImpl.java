@@ -0,0 +1,134 @@
+package org.example.gamerscove.services.impl;
+
+import jakarta.annotation.PreDestroy;
+import org.example.gamerscove.domain.dto.FriendSuggestionDto;
+import org.example.gamerscove.graph.FriendGraph;
+import org.example.gamerscove.graph.FriendSuggestionProperties;
+import org.example.gamerscove.graph.FriendSuggestions;
+import org.example.gamerscove.graph.FriendshipChangedEvent;
+import org.example.gamerscove.graph.SuggestionProfile;
+import org.example.gamerscove.repositories.FriendshipRepository;
+import org.example.gamerscove.repositories.UserRepository;
+import org.example.gamerscove.services.FriendSuggestionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+// Suggestions for all users are precomputed in the background and served from memory. Between runs,
+// any friendship change between two users (request, accept, decline, block) removes them from each
+// other's suggestions straight away; new candidates only appear with the next run.
+@Service
+@EnableConfigurationProperties(FriendSuggestionProperties.class)
+public class FriendSuggestionServiceImpl implements FriendSuggestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FriendSuggestionServiceImpl.class);
+
+    private final FriendGraph friendGraph;
+    private final FriendshipRepository friendshipRepository;
+    private final UserRepository userRepository;
+    private final FriendSuggestionProperties properties;
+    private final ForkJoinPool pool;
+
+    private volatile Map<Long, List<FriendSuggestionDto>> suggestionsByUser;
+    private List<FriendshipChangedEvent> changesDuringRun;
+
+    public FriendSuggestionServiceImpl(FriendGraph friendGraph, FriendshipRepository friendshipRepository,
+                                       UserRepository userRepository, FriendSuggestionProperties properties) {
+        this.friendGraph = friendGraph;
+        this.friendshipRepository = friendshipRepository;
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.pool = new ForkJoinPool(properties.parallelism());
+    }
+
+    @Override
+    public List<FriendSuggestionDto> getSuggestions(Long userId, int limit) {
+        Map<Long, List<FriendSuggestionDto>> snapshot = suggestionsByUser;
+        if (snapshot == null) {
+            throw new IllegalStateException("Friend suggestions have not been computed yet");
+        }
+        List<FriendSuggestionDto> suggestions = snapshot.getOrDefault(userId, List.of());
+        return suggestions.subList(0, Math.min(limit, suggestions.size()));
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${friend-suggestions.initial-delay:PT30S}",
+            fixedDelayString = "${friend-suggestions.refresh-interval:PT15M}")
+    public void refresh() {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (!friendGraph.isReady()) {
+            logger.debug("Skipping friend suggestion run: friend graph is not built yet");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        synchronized (this) {
+            changesDuringRun = new ArrayList<>();
+        }
+        try {
+            Map<Long, SuggestionProfile> profiles = new HashMap<>();
+            userRepository.forEachSuggestionProfile(profile -> profiles.put(profile.userId(), profile));
+
+            Map<Long, Set<Long>> excludedPairs = new HashMap<>();
+            friendshipRepository.forEachUnacceptedPair((userLowId, userHighId) -> {
+                excludedPairs.computeIfAbsent(userLowId, id -> new HashSet<>()).add(userHighId);
+                excludedPairs.computeIfAbsent(userHighId, id -> new HashSet<>()).add(userLowId);
+            });
+
+            Map<Long, List<FriendSuggestionDto>> computed = new FriendSuggestions(friendGraph, profiles, excludedPairs,
+                    properties.maxFanOut(), properties.perUser()).computeAll(pool);
+
+            synchronized (this) {
+                changesDuringRun.forEach(change -> dropPair(computed, change));
+                suggestionsByUser = computed;
+            }
+            logger.info("Computed friend suggestions for {} users in {} ms",
+                    computed.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            logger.error("Friend suggestion run failed: {}", e.getMessage(), e);
+        } finally {
+            synchronized (this) {
+                changesDuringRun = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onFriendshipChanged(FriendshipChangedEvent event) {
+        if (changesDuringRun != null) {
+            changesDuringRun.add(event);
+        }
+        if (suggestionsByUser != null) {
+            dropPair(suggestionsByUser, event);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static void dropPair(Map<Long, List<FriendSuggestionDto>> suggestions, FriendshipChangedEvent change) {
+        suggestions.computeIfPresent(change.userId(), (userId, list) -> without(list, change.otherUserId()));
+        suggestions.computeIfPresent(change.otherUserId(), (userId, list) -> without(list, change.userId()));
+    }
+
+    private static List<FriendSuggestionDto> without(List<FriendSuggestionDto> suggestions, long userId) {
+        return suggestions.stream().noneMatch(suggestion -> suggestion.getUserId() == userId)
+                ? suggestions
+                : suggestions.stream().filter(suggestion -> suggestion.getUserId() != userId).toList();
+    }
+}
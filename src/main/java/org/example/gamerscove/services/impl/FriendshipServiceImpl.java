@@ -0,0 +1,188 @@
+package org.example.gamerscove.services.impl;
+
+import org.example.gamerscove.domain.dto.FriendDto;
+import org.example.gamerscove.domain.entities.FriendshipEntity;
+import org.example.gamerscove.domain.entities.FriendshipEntity.FriendshipStatus;
+import org.example.gamerscove.graph.FriendGraph;
+import org.example.gamerscove.graph.FriendshipChangedEvent;
+import org.example.gamerscove.repositories.FriendshipRepository;
+import org.example.gamerscove.services.FriendshipService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+// State changes lock the pair's single edge row first, so two users acting on the same pair at once
+// see each other's result. Invalid transitions throw IllegalStateException; acting on a request or
+// friendship that does not exist throws NoSuchElementException. Every change publishes a
+// FriendshipChangedEvent so the in-memory FriendGraph picks it up once the transaction commits.
+@Service
+public class FriendshipServiceImpl implements FriendshipService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FriendshipServiceImpl.class);
+
+    private final FriendshipRepository friendshipRepository;
+    private final FriendGraph friendGraph;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public FriendshipServiceImpl(FriendshipRepository friendshipRepository, FriendGraph friendGraph,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.friendshipRepository = friendshipRepository;
+        this.friendGraph = friendGraph;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional
+    public FriendshipEntity sendRequest(Long requesterId, Long receiverId) {
+        logger.debug("Friend request from user ID: {} to user ID: {}", requesterId, receiverId);
+        requireDistinct(requesterId, receiverId);
+
+        Optional<FriendshipEntity> existing = lockPair(requesterId, receiverId);
+        if (existing.isEmpty()) {
+            return save(new FriendshipEntity(requesterId, receiverId));
+        }
+
+        FriendshipEntity friendship = existing.get();
+        switch (friendship.getStatus()) {
+            case BLOCKED -> throw new IllegalStateException("Friend requests between these users are blocked");
+            case ACCEPTED -> {
+                return friendship;
+            }
+            case PENDING -> {
+                // The other user already asked: a request back means yes
+                if (friendship.getReceiverId().equals(requesterId)) {
+                    friendship.setStatus(FriendshipStatus.ACCEPTED);
+                }
+                return save(friendship);
+            }
+            default -> {
+                // A declined request may be sent again, by either side
+                friendship.setRequesterId(requesterId);
+                friendship.setReceiverId(receiverId);
+                friendship.setStatus(FriendshipStatus.PENDING);
+                return save(friendship);
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public FriendshipEntity acceptRequest(Long userId, Long requesterId) {
+        logger.debug("User ID: {} accepting friend request from user ID: {}", userId, requesterId);
+        FriendshipEntity friendship = lockPendingRequest(userId, requesterId);
+        friendship.setStatus(FriendshipStatus.ACCEPTED);
+        return save(friendship);
+    }
+
+    @Override
+    @Transactional
+    public FriendshipEntity declineRequest(Long userId, Long requesterId) {
+        logger.debug("User ID: {} declining friend request from user ID: {}", userId, requesterId);
+        FriendshipEntity friendship = lockPendingRequest(userId, requesterId);
+        friendship.setStatus(FriendshipStatus.DECLINED);
+        return save(friendship);
+    }
+
+    // Unfriends, withdraws a sent request or clears a declined one
+    @Override
+    @Transactional
+    public void removeFriendship(Long userId, Long otherUserId) {
+        logger.debug("Removing friendship between user ID: {} and user ID: {}", userId, otherUserId);
+        FriendshipEntity friendship = lockPair(userId, otherUserId)
+                .orElseThrow(() -> new NoSuchElementException("No friendship between users " + userId + " and " + otherUserId));
+        if (friendship.isBlocked()) {
+            throw new IllegalStateException("A blocked user must be unblocked, not unfriended");
+        }
+        friendshipRepository.delete(friendship);
+        eventPublisher.publishEvent(new FriendshipChangedEvent(userId, otherUserId, false));
+    }
+
+    @Override
+    @Transactional
+    public FriendshipEntity blockUser(Long userId, Long otherUserId) {
+        logger.debug("User ID: {} blocking user ID: {}", userId, otherUserId);
+        requireDistinct(userId, otherUserId);
+
+        FriendshipEntity friendship = lockPair(userId, otherUserId)
+                .orElseGet(() -> new FriendshipEntity(userId, otherUserId));
+        if (friendship.isBlocked()) {
+            // Already blocked by one side; the first blocker stays the one who can lift it
+            return friendship;
+        }
+
+        // The requester of a blocked edge is the user who blocked
+        friendship.setRequesterId(userId);
+        friendship.setReceiverId(otherUserId);
+        friendship.setStatus(FriendshipStatus.BLOCKED);
+        return save(friendship);
+    }
+
+    @Override
+    @Transactional
+    public void unblockUser(Long userId, Long otherUserId) {
+        logger.debug("User ID: {} unblocking user ID: {}", userId, otherUserId);
+        FriendshipEntity friendship = lockPair(userId, otherUserId)
+                .filter(edge -> edge.isBlocked() && edge.getRequesterId().equals(userId))
+                .orElseThrow(() -> new NoSuchElementException("User " + userId + " has not blocked user " + otherUserId));
+        friendshipRepository.delete(friendship);
+    }
+
+    @Override
+    public Optional<FriendshipEntity> findFriendship(Long userId, Long otherUserId) {
+        return friendshipRepository.findByUserLowIdAndUserHighId(
+                Math.min(userId, otherUserId), Math.max(userId, otherUserId));
+    }
+
+    // Answered from the friend graph once it is built; the unique pair index covers the startup window
+    @Override
+    public boolean areFriends(Long userId, Long otherUserId) {
+        if (friendGraph.isReady()) {
+            return friendGraph.areFriends(userId, otherUserId);
+        }
+        return findFriendship(userId, otherUserId).map(FriendshipEntity::isAccepted).orElse(false);
+    }
+
+    @Override
+    public List<FriendDto> findFriends(Long userId) {
+        return friendshipRepository.findFriends(userId);
+    }
+
+    @Override
+    public List<FriendDto> findMutualFriends(Long userId, Long otherUserId) {
+        return friendshipRepository.findMutualFriends(userId, otherUserId);
+    }
+
+    @Override
+    public List<FriendshipEntity> findPendingRequests(Long userId) {
+        return friendshipRepository.findPendingRequestsTo(userId);
+    }
+
+    private FriendshipEntity save(FriendshipEntity friendship) {
+        FriendshipEntity saved = friendshipRepository.save(friendship);
+        eventPublisher.publishEvent(new FriendshipChangedEvent(saved.getRequesterId(), saved.getReceiverId(), saved.isAccepted()));
+        return saved;
+    }
+
+    private Optional<FriendshipEntity> lockPair(Long userId, Long otherUserId) {
+        return friendshipRepository.findPairForUpdate(Math.min(userId, otherUserId), Math.max(userId, otherUserId));
+    }
+
+    private FriendshipEntity lockPendingRequest(Long receiverId, Long requesterId) {
+        return lockPair(receiverId, requesterId)
+                .filter(edge -> edge.isPending() && edge.getReceiverId().equals(receiverId))
+                .orElseThrow(() -> new NoSuchElementException(
+                        "No pending friend request from user " + requesterId + " to user " + receiverId));
+    }
+
+    private static void requireDistinct(Long userId, Long otherUserId) {
+        if (userId.equals(otherUserId)) {
+            throw new IllegalArgumentException("Users cannot befriend or block themselves");
+        }
+    }
+}
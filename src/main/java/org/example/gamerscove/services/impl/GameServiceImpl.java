@@ -1,90 +1,320 @@
 package org.example.gamerscove.services.impl;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.gamerscove.cache.LruTtlCache;
+import org.example.gamerscove.domain.dto.FacetCountDto;
+import org.example.gamerscove.domain.dto.GameSummaryDto;
+import org.example.gamerscove.domain.dto.GameUpsertResultDto;
 import org.example.gamerscove.domain.entities.GameEntity;
+import org.example.gamerscove.domain.entities.GameRatingStatsEntity;
+import org.example.gamerscove.domain.entities.GenreEntity;
+import org.example.gamerscove.domain.entities.PlatformEntity;
+import org.example.gamerscove.domain.entities.TagEntity;
+import org.example.gamerscove.domain.pagination.CursorCodec;
+import org.example.gamerscove.domain.pagination.CursorPage;
+import org.example.gamerscove.domain.pagination.FacetedPage;
+import org.example.gamerscove.index.FacetQueryResult;
+import org.example.gamerscove.index.GameFacetIndex;
+import org.example.gamerscove.index.GameTitleIndex;
+import org.example.gamerscove.index.GamesChangedEvent;
+import org.example.gamerscove.repositories.GameRatingStatsRepository;
 import org.example.gamerscove.repositories.GameRepository;
 import org.example.gamerscove.services.GameService;
+import org.example.gamerscove.services.TagDictionaryService;
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
 public class GameServiceImpl implements GameService {
 
     private static final Logger logger = LoggerFactory.getLogger(GameServiceImpl.class);
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_SEARCH_RESULTS = 50;
+
     private final GameRepository gameRepository;
+    private final GameRatingStatsRepository ratingStatsRepository;
+    private final EntityManager entityManager;
+    private final LruTtlCache<Long, GameEntity> gameCache;
+    private final TagDictionaryService tagDictionary;
+    private final GameFacetIndex facetIndex;
+    private final GameTitleIndex titleIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public GameServiceImpl(GameRepository gameRepository) {
+    public GameServiceImpl(GameRepository gameRepository,
+                           GameRatingStatsRepository ratingStatsRepository,
+                           EntityManager entityManager,
+                           LruTtlCache<Long, GameEntity> gameCache,
+                           TagDictionaryService tagDictionary,
+                           GameFacetIndex facetIndex,
+                           GameTitleIndex titleIndex,
+                           ApplicationEventPublisher eventPublisher,
+                           EntityManagerFactory entityManagerFactory,
+                           PlatformTransactionManager transactionManager) {
         this.gameRepository = gameRepository;
+        this.ratingStatsRepository = ratingStatsRepository;
+        this.entityManager = entityManager;
+        this.gameCache = gameCache;
+        this.tagDictionary = tagDictionary;
+        this.facetIndex = facetIndex;
+        this.titleIndex = titleIndex;
+        this.eventPublisher = eventPublisher;
+        this.entityManagerFactory = entityManagerFactory;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Override
+    @Transactional
     public GameEntity createGameEntity(GameEntity gameEntity) {
-        logger.info("=== CREATE GAME REQUEST ===");
-        logger.info("Creating game with external API ID: {}", gameEntity.getExternalApiId());
-        logger.info("Title: {}", gameEntity.getTitle());
-        logger.info("Description: {}", gameEntity.getDescription());
-        logger.info("Cover Image URL: {}", gameEntity.getCoverImageUrl());
-        logger.info("Release Date: {}", gameEntity.getReleaseDate());
-
-        if (gameEntity.getPlatforms() != null) {
-            logger.info("Platforms: {}", String.join(", ", gameEntity.getPlatforms()));
-        }
-
-        if (gameEntity.getGenres() != null) {
-            logger.info("Genres: {}", String.join(", ", gameEntity.getGenres()));
-        }
+        logger.debug("Creating game '{}' with external API ID: {}", gameEntity.getTitle(), gameEntity.getExternalApiId());
 
+        internTags(List.of(gameEntity));
         GameEntity savedGame = gameRepository.save(gameEntity);
-        logger.info("Game created successfully with ID: {}", savedGame.getId());
-        logger.info("============================");
+        eventPublisher.publishEvent(new GamesChangedEvent(List.of(savedGame)));
+        logger.debug("Game created successfully with ID: {}", savedGame.getId());
 
         return savedGame;
     }
 
+    @Override
+    @Transactional
+    public GameUpsertResultDto upsertGames(List<GameEntity> games) {
+        internTags(games);
+        GameUpsertResultDto result = gameRepository.upsertAll(games);
+        if (result.getWritten() > 0) {
+            List<GameEntity> written = games.stream()
+                    .filter(game -> result.getWrittenIds().contains(game.getId()))
+                    .toList();
+            eventPublisher.publishEvent(new GamesChangedEvent(written));
+        }
+        logger.debug("Upserted games: {} inserted, {} updated, {} unchanged",
+                result.getInserted(), result.getUpdated(), result.getUnchanged());
+        return result;
+    }
+
+    // Evicts after commit: evicting inside the transaction would let a concurrent read re-cache the old row
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamesChanged(GamesChangedEvent event) {
+        event.games().forEach(game -> gameCache.invalidate(game.getId()));
+    }
+
+    @Override
+    public Set<String> findExistingExternalApiIds(Collection<String> externalApiIds) {
+        if (externalApiIds.isEmpty()) {
+            return Set.of();
+        }
+        return gameRepository.findExistingExternalApiIds(externalApiIds);
+    }
+
     @Override
     public Optional<GameEntity> findById(Long id) {
-        logger.info("=== FIND GAME BY ID ===");
-        logger.info("Searching for game with ID: {}", id);
+        logger.debug("Searching for game with ID: {}", id);
 
-        Optional<GameEntity> foundGame = gameRepository.findById(id);
+        Optional<GameEntity> foundGame = Optional.ofNullable(
+                gameCache.get(id, key -> gameRepository.findWithTagsById(key).orElse(null)));
         if (foundGame.isPresent()) {
-            logger.info("Game found: {}", foundGame.get().getTitle());
+            logger.debug("Game found: {}", foundGame.get().getTitle());
         } else {
-            logger.info("No game found with ID: {}", id);
+            logger.debug("No game found with ID: {}", id);
         }
-        logger.info("=======================");
 
         return foundGame;
     }
 
     @Override
     public Optional<GameEntity> findTitle(String title) {
-        logger.info("=== FIND GAME BY TITLE ===");
-        logger.info("Searching for game with title: {}", title);
+        logger.debug("Searching for game with title: {}", title);
 
         Optional<GameEntity> foundGame = gameRepository.findByTitle(title);
         if (foundGame.isPresent()) {
-            logger.info("Game found with ID: {}", foundGame.get().getId());
+            logger.debug("Game found with ID: {}", foundGame.get().getId());
         } else {
-            logger.info("No game found with title: {}", title);
+            logger.debug("No game found with title: {}", title);
         }
-        logger.info("==============================");
 
         return foundGame;
     }
 
     @Override
-    public List<GameEntity> findAll() {
-        logger.info("=== FIND ALL GAMES ===");
+    public Map<Long, GameRatingStatsEntity> findRatingStats(Collection<Long> gameIds) {
+        Map<Long, GameRatingStatsEntity> statsByGameId = new HashMap<>();
+        if (!gameIds.isEmpty()) {
+            ratingStatsRepository.findAllById(gameIds)
+                    .forEach(stats -> statsByGameId.put(stats.getGameId(), stats));
+        }
+        return statsByGameId;
+    }
+
+    @Override
+    public List<GameSummaryDto> findSummaries(long[] gameIds) {
+        return gameRepository.findSummariesByIds(gameIds);
+    }
+
+    @Override
+    public CursorPage<GameEntity> findPage(String cursor, int limit, String platform, String genre) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long afterId = cursor == null || cursor.isBlank() ? 0L : CursorCodec.decodeLong(cursor);
+
+        Integer platformId = null;
+        Integer genreId = null;
+        if (platform != null && !platform.isBlank()) {
+            Optional<PlatformEntity> platformTag = tagDictionary.findPlatform(platform);
+            if (platformTag.isEmpty()) {
+                return CursorPage.of(List.of(), null);
+            }
+            platformId = platformTag.get().getId();
+        }
+        if (genre != null && !genre.isBlank()) {
+            Optional<GenreEntity> genreTag = tagDictionary.findGenre(genre);
+            if (genreTag.isEmpty()) {
+                return CursorPage.of(List.of(), null);
+            }
+            genreId = genreTag.get().getId();
+        }
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        List<GameEntity> games = platformId == null && genreId == null
+                ? gameRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1))
+                : gameRepository.findPageByTags(afterId, platformId, genreId, pageSize + 1);
+        if (games.size() <= pageSize) {
+            return CursorPage.of(games, null);
+        }
+
+        List<GameEntity> page = games.subList(0, pageSize);
+        return CursorPage.of(page, CursorCodec.encode(page.get(pageSize - 1).getId()));
+    }
+
+    @Override
+    public List<GameEntity> searchByTitle(String query, int limit) {
+        int resultSize = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        List<Long> gameIds = titleIndex.search(query, resultSize).stream()
+                .map(GameTitleIndex.TitleMatch::gameId)
+                .toList();
+        return findAllInOrder(gameIds);
+    }
+
+    @Override
+    public FacetedPage<GameEntity> browse(String genre, String platform, Integer year, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Long afterId = cursor == null || cursor.isBlank() ? null : CursorCodec.decodeLong(cursor);
+
+        FacetQueryResult result = facetIndex.query(blankToNull(genre), blankToNull(platform), year, afterId, pageSize);
+
+        List<GameEntity> games = findAllInOrder(result.gameIds());
+
+        String nextCursor = result.hasMore() && !result.gameIds().isEmpty()
+                ? CursorCodec.encode(result.gameIds().get(result.gameIds().size() - 1))
+                : null;
+
+        Map<String, List<FacetCountDto>> facets = new LinkedHashMap<>();
+        facets.put(GameFacetIndex.GENRE, result.genres());
+        facets.put(GameFacetIndex.PLATFORM, result.platforms());
+        facets.put(GameFacetIndex.YEAR, result.years());
+
+        return new FacetedPage<>(games, nextCursor, nextCursor != null, result.totalMatches(), facets);
+    }
+
+    // Each page is read in its own short read-only transaction and handed to the consumer after it
+    // ends, so a slow consumer (a client downloading the catalog) holds no connection or snapshot.
+    // Under open-in-view the request's EntityManager would keep the connection it first used until
+    // the request ends, so it is set aside for the scan: each transaction, and each lookup the
+    // consumer makes, then gets its own EntityManager and returns the connection when done.
+    @Override
+    public void forEachPage(int pageSize, Consumer<List<GameEntity>> pageConsumer) {
+        int size = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+        long afterId = 0L;
 
-        List<GameEntity> games = (List<GameEntity>) gameRepository.findAll();
-        logger.info("Found {} games in database", games.size());
-        logger.info("======================");
+        Object requestEntityManager = TransactionSynchronizationManager.isActualTransactionActive()
+                ? null : TransactionSynchronizationManager.unbindResourceIfPossible(entityManagerFactory);
+        try {
+            List<GameEntity> page;
+            do {
+                long after = afterId;
+                page = readOnlyTransaction.execute(status -> loadPage(after, size));
+                if (page.isEmpty()) {
+                    break;
+                }
+                pageConsumer.accept(page);
+                afterId = page.get(page.size() - 1).getId();
+            } while (page.size() == size);
+        } finally {
+            if (requestEntityManager != null) {
+                TransactionSynchronizationManager.bindResource(entityManagerFactory, requestEntityManager);
+            }
+        }
+    }
+
+    private List<GameEntity> loadPage(long afterId, int size) {
+        List<GameEntity> page = gameRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size));
+        // Loaded here (in @BatchSize batches) because the consumer runs outside the transaction
+        for (GameEntity game : page) {
+            Hibernate.initialize(game.getPlatforms());
+            Hibernate.initialize(game.getGenres());
+        }
+        // Detach the page so a long scan does not grow the persistence context
+        entityManager.clear();
+        return page;
+    }
+
+    // Swaps each game's placeholder tags for interned dictionary rows, one dictionary call per kind
+    private void internTags(List<GameEntity> games) {
+        Map<String, PlatformEntity> platforms = byKey(tagDictionary.internPlatforms(
+                games.stream().flatMap(game -> Arrays.stream(game.getPlatformNames())).toList()));
+        Map<String, GenreEntity> genres = byKey(tagDictionary.internGenres(
+                games.stream().flatMap(game -> Arrays.stream(game.getGenreNames())).toList()));
+
+        for (GameEntity game : games) {
+            game.setPlatforms(game.getPlatforms().stream()
+                    .map(tag -> platforms.get(tag.getNameKey()))
+                    .collect(Collectors.toCollection(LinkedHashSet::new)));
+            game.setGenres(game.getGenres().stream()
+                    .map(tag -> genres.get(tag.getNameKey()))
+                    .collect(Collectors.toCollection(LinkedHashSet::new)));
+        }
+    }
+
+    // The indexes decide which games and in what order; the rows themselves are one primary key lookup
+    private List<GameEntity> findAllInOrder(List<Long> gameIds) {
+        Map<Long, GameEntity> gamesById = new HashMap<>();
+        gameRepository.findAllById(gameIds).forEach(game -> gamesById.put(game.getId(), game));
+        return gameIds.stream()
+                .map(gamesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
 
-        return games;
+    private static <T extends TagEntity> Map<String, T> byKey(Set<T> tags) {
+        return tags.stream().collect(Collectors.toMap(TagEntity::getNameKey, Function.identity()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,219 @@
+package org.example.gamerscove.services.impl;
+
+import jakarta.annotation.PreDestroy;
+import org.example.gamerscove.clients.IgdbClient;
+import org.example.gamerscove.domain.dto.GameUpsertResultDto;
+import org.example.gamerscove.domain.dto.IGDBGameResponseDto;
+import org.example.gamerscove.domain.dto.IgdbImportStatusDto;
+import org.example.gamerscove.domain.entities.GameEntity;
+import org.example.gamerscove.domain.entities.IgdbSyncStateEntity;
+import org.example.gamerscove.mappers.impl.IgdbGameConverter;
+import org.example.gamerscove.repositories.IgdbSyncStateRepository;
+import org.example.gamerscove.services.GameService;
+import org.example.gamerscove.services.IgdbImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Imports the full IGDB catalog in offset/limit pages. Several pages are fetched concurrently
+ * (the shared rate limiter in {@link IgdbClient} keeps us within IGDB's request quota) and each
+ * page is upserted in one statement. The lowest offset below which every page has been stored
+ * is persisted after each page, so an interrupted import resumes from there.
+ */
+@Service
+public class IgdbImportServiceImpl implements IgdbImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IgdbImportServiceImpl.class);
+
+    static final String CATALOG_JOB = "igdb_catalog";
+
+    private final IgdbClient igdbClient;
+    private final IgdbGameConverter igdbGameConverter;
+    private final GameService gameService;
+    private final IgdbSyncStateRepository syncStateRepository;
+    private final int pageSize;
+    private final int concurrency;
+    private final ThreadFactory fetchThreadFactory;
+
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("igdb-import-"));
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile IgdbImportStatusDto status = IgdbImportStatusDto.builder().build();
+
+    public IgdbImportServiceImpl(IgdbClient igdbClient,
+                                 IgdbGameConverter igdbGameConverter,
+                                 GameService gameService,
+                                 IgdbSyncStateRepository syncStateRepository,
+                                 @Value("${igdb.import.page-size:500}") int pageSize,
+                                 @Value("${igdb.import.concurrency:4}") int concurrency,
+                                 @Qualifier("igdbFetchThreadFactory") ThreadFactory fetchThreadFactory) {
+        this.igdbClient = igdbClient;
+        this.igdbGameConverter = igdbGameConverter;
+        this.gameService = gameService;
+        this.syncStateRepository = syncStateRepository;
+        this.pageSize = Math.max(1, Math.min(pageSize, IgdbClient.MAX_PAGE_SIZE));
+        this.concurrency = Math.max(1, concurrency);
+        this.fetchThreadFactory = fetchThreadFactory;
+    }
+
+    @Override
+    public boolean startCatalogImport(boolean restart) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        status = status.toBuilder().running(true).completed(false).lastError(null).build();
+        jobExecutor.execute(() -> {
+            try {
+                importCatalog(restart);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public IgdbImportStatusDto runCatalogImport(boolean restart) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("An IGDB import is already running");
+        }
+
+        try {
+            return importCatalog(restart);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public IgdbImportStatusDto getStatus() {
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private IgdbImportStatusDto importCatalog(boolean restart) {
+        IgdbSyncStateEntity state = syncStateRepository.findById(CATALOG_JOB)
+                .filter(saved -> !restart && !saved.isCompleted())
+                .orElseGet(() -> IgdbSyncStateEntity.builder().jobName(CATALOG_JOB).build());
+
+        status = IgdbImportStatusDto.builder()
+                .running(true)
+                .nextOffset(state.getNextOffset())
+                .gamesUpserted(state.getGamesUpserted())
+                .startedAt(LocalDateTime.now())
+                .build();
+        logger.info("Starting IGDB catalog import at offset {} (page size {}, {} pages in flight)",
+                state.getNextOffset(), pageSize, concurrency);
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, fetchThreadFactory);
+        CompletionService<PageResult> completion = new ExecutorCompletionService<>(workers);
+        SortedSet<Integer> finishedOffsets = new TreeSet<>();
+        int dispatchOffset = state.getNextOffset();
+        int inFlight = 0;
+        long pages = 0;
+        boolean exhausted = false;
+        String error = null;
+
+        try {
+            while (true) {
+                while (!exhausted && inFlight < concurrency) {
+                    int offset = dispatchOffset;
+                    completion.submit(() -> importPage(offset));
+                    dispatchOffset += pageSize;
+                    inFlight++;
+                }
+                if (inFlight == 0) {
+                    break;
+                }
+
+                PageResult result = completion.take().get();
+                inFlight--;
+                pages++;
+
+                // A short page means we have reached the end of the catalog
+                if (result.fetched() < pageSize) {
+                    exhausted = true;
+                }
+
+                // Only advance the resume point over a contiguous run of finished pages
+                finishedOffsets.add(result.offset());
+                int resumeOffset = state.getNextOffset();
+                while (finishedOffsets.remove(resumeOffset)) {
+                    resumeOffset += pageSize;
+                }
+                state.setNextOffset(resumeOffset);
+                GameUpsertResultDto upsert = result.upsert();
+                state.setGamesUpserted(state.getGamesUpserted() + result.fetched());
+                syncStateRepository.save(state);
+
+                status = status.toBuilder()
+                        .nextOffset(resumeOffset)
+                        .pagesImported(pages)
+                        .gamesUpserted(state.getGamesUpserted())
+                        .gamesInserted(status.getGamesInserted() + upsert.getInserted())
+                        .gamesUpdated(status.getGamesUpdated() + upsert.getUpdated())
+                        .gamesUnchanged(status.getGamesUnchanged() + upsert.getUnchanged())
+                        .build();
+            }
+
+            state.setCompleted(true);
+            syncStateRepository.save(state);
+            logger.info("IGDB catalog import finished: {} pages, {} games upserted", pages, state.getGamesUpserted());
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            error = cause.getMessage();
+            logger.error("IGDB catalog import failed, resumable from offset {}: {}", state.getNextOffset(), error);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = "Import interrupted";
+            logger.warn("IGDB catalog import interrupted, resumable from offset {}", state.getNextOffset());
+        } finally {
+            workers.shutdownNow();
+        }
+
+        status = status.toBuilder()
+                .running(false)
+                .completed(state.isCompleted())
+                .finishedAt(LocalDateTime.now())
+                .lastError(error)
+                .build();
+        return status;
+    }
+
+    private PageResult importPage(int offset) {
+        List<IGDBGameResponseDto> igdbGames = igdbClient.fetchGamesPage(offset, pageSize);
+        List<GameEntity> games = igdbGames.stream()
+                .map(igdbGameConverter::toGameEntity)
+                .collect(Collectors.toList());
+
+        GameUpsertResultDto upsert = gameService.upsertGames(games);
+        logger.info("Imported IGDB page at offset {} ({} new, {} updated, {} unchanged)",
+                offset, upsert.getInserted(), upsert.getUpdated(), upsert.getUnchanged());
+        return new PageResult(offset, igdbGames.size(), upsert);
+    }
+
+    private record PageResult(int offset, int fetched, GameUpsertResultDto upsert) {
+    }
+}
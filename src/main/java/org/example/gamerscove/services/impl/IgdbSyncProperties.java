@@ -0,0 +1,24 @@
+package org.example.gamerscove.services.impl;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the incremental IGDB sync run by {@link IgdbSyncServiceImpl}.
+ *
+ * @param enabled          turns the scheduled sync off
+ * @param pageSize         games fetched per IGDB request
+ * @param queueCapacity    fetched pages allowed to wait for the upsert thread before fetching blocks
+ * @param initialLookback  how far back the first sync starts when no watermark has been stored
+ */
+@ConfigurationProperties(prefix = "igdb.sync")
+public record IgdbSyncProperties(Boolean enabled, Integer pageSize, Integer queueCapacity, Duration initialLookback) {
+
+    public IgdbSyncProperties {
+        enabled = enabled == null || enabled;
+        pageSize = pageSize == null ? 500 : pageSize;
+        queueCapacity = queueCapacity == null ? 2 : Math.max(1, queueCapacity);
+        initialLookback = initialLookback == null ? Duration.ofDays(1) : initialLookback;
+    }
+}
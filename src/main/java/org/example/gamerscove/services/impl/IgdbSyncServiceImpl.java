@@ -0,0 +1,284 @@
+package org.example.gamerscove.services.impl;
+
+import jakarta.annotation.PreDestroy;
+import org.example.gamerscove.clients.IgdbClient;
+import org.example.gamerscove.domain.dto.GameUpsertResultDto;
+import org.example.gamerscove.domain.dto.IGDBGameResponseDto;
+import org.example.gamerscove.domain.dto.IgdbSyncStatusDto;
+import org.example.gamerscove.domain.entities.GameEntity;
+import org.example.gamerscove.domain.entities.IgdbSyncStateEntity;
+import org.example.gamerscove.mappers.impl.IgdbGameConverter;
+import org.example.gamerscove.repositories.IgdbSyncStateRepository;
+import org.example.gamerscove.services.GameService;
+import org.example.gamerscove.services.IgdbSyncService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the catalog fresh by fetching only the games IGDB changed since the stored watermark,
+ * oldest change first. A run gets its own job thread, off the shared scheduler and request
+ * threads; it pages through IGDB while a single upsert thread stores the pages in order
+ * behind a small bounded queue; when the database falls behind,
+ * handing over the next page blocks, so fetching never runs ahead by more than the queue.
+ * <p>
+ * Pages are keyed by (updated_at, id). IGDB sorts on one field only, so a run alternates:
+ * it drains the games at exactly the watermark in id order ({@code updated_at = W & id > last}),
+ * then reads {@code updated_at > W} oldest first. Of a full page it stores only the games older
+ * than the page's newest timestamp and drains that timestamp next, so a tie straddling a page
+ * boundary is neither skipped nor fetched twice, and every query stays the same size. The
+ * watermark is persisted after each stored page; a run that fails resumes from there and at
+ * worst re-upserts the games at that one timestamp.
+ */
+@Service
+@EnableConfigurationProperties(IgdbSyncProperties.class)
+public class IgdbSyncServiceImpl implements IgdbSyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IgdbSyncServiceImpl.class);
+
+    static final String SYNC_JOB = "igdb_incremental";
+
+    private final IgdbClient igdbClient;
+    private final IgdbGameConverter igdbGameConverter;
+    private final GameService gameService;
+    private final IgdbSyncStateRepository syncStateRepository;
+    private final IgdbSyncProperties properties;
+    private final int pageSize;
+    private final ThreadPoolExecutor upsertExecutor;
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("igdb-sync-job-"));
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile IgdbSyncStatusDto status = IgdbSyncStatusDto.builder().build();
+
+    public IgdbSyncServiceImpl(IgdbClient igdbClient,
+                               IgdbGameConverter igdbGameConverter,
+                               GameService gameService,
+                               IgdbSyncStateRepository syncStateRepository,
+                               IgdbSyncProperties properties) {
+        this.igdbClient = igdbClient;
+        this.igdbGameConverter = igdbGameConverter;
+        this.gameService = gameService;
+        this.syncStateRepository = syncStateRepository;
+        this.properties = properties;
+        this.pageSize = Math.max(1, Math.min(properties.pageSize(), IgdbClient.MAX_PAGE_SIZE));
+        this.upsertExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                new CustomizableThreadFactory("igdb-sync-upsert-"),
+                IgdbSyncServiceImpl::waitForQueueSpace);
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${igdb.sync.initial-delay:PT2M}",
+            fixedDelayString = "${igdb.sync.interval:PT30M}")
+    public void scheduledSync() {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (igdbClient.isOffline()) {
+            logger.debug("Skipping IGDB sync: the IGDB client is in offline mode");
+            return;
+        }
+        if (!startSync()) {
+            logger.debug("Skipping IGDB sync: the previous sync is still running");
+        }
+    }
+
+    @Override
+    public boolean startSync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        status = status.toBuilder().running(true).lastError(null).build();
+        jobExecutor.execute(() -> {
+            try {
+                sync();
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public IgdbSyncStatusDto runSync() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("An IGDB sync is already running");
+        }
+
+        try {
+            return sync();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public IgdbSyncStatusDto getStatus() {
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        upsertExecutor.shutdownNow();
+    }
+
+    private IgdbSyncStatusDto sync() {
+        IgdbSyncStateEntity state = syncStateRepository.findById(SYNC_JOB)
+                .orElseGet(() -> IgdbSyncStateEntity.builder().jobName(SYNC_JOB).build());
+        if (state.getWatermark() == null) {
+            state.setWatermark(Instant.now().minus(properties.initialLookback()).getEpochSecond());
+        }
+
+        status = IgdbSyncStatusDto.builder()
+                .running(true)
+                .watermark(state.getWatermark())
+                .startedAt(LocalDateTime.now())
+                .build();
+        logger.info("Starting incremental IGDB sync from watermark {}", state.getWatermark());
+
+        long watermark = state.getWatermark();
+        // Id of the last game stored at exactly the watermark while draining its tie, null once drained
+        Long tieAfterId = 0L;
+        AtomicReference<RuntimeException> upsertFailure = new AtomicReference<>();
+        Future<?> lastUpsert = null;
+        String error = null;
+
+        try {
+            boolean lastPage = false;
+            while (!lastPage && upsertFailure.get() == null) {
+                List<IGDBGameResponseDto> page;
+                List<IGDBGameResponseDto> toStore;
+                if (tieAfterId != null) {
+                    page = igdbClient.fetchGamesUpdatedAt(watermark, tieAfterId, pageSize);
+                    toStore = page;
+                    tieAfterId = page.size() < pageSize ? null : page.get(page.size() - 1).getId();
+                } else {
+                    page = igdbClient.fetchGamesUpdatedAfter(watermark, pageSize);
+                    if (page.isEmpty()) {
+                        break;
+                    }
+                    long since = watermark;
+                    long newest = since;
+                    for (IGDBGameResponseDto game : page) {
+                        newest = Math.max(newest, updatedAt(game, since));
+                    }
+                    watermark = newest;
+                    if (page.size() < pageSize) {
+                        // The last page holds every remaining game, ties included
+                        toStore = page;
+                        lastPage = true;
+                    } else {
+                        // The newest timestamp may continue on the next page; drain it by id instead
+                        long tie = newest;
+                        toStore = page.stream().filter(game -> updatedAt(game, since) < tie).toList();
+                        tieAfterId = 0L;
+                    }
+                }
+
+                if (!toStore.isEmpty()) {
+                    long pageWatermark = watermark;
+                    lastUpsert = upsertExecutor.submit(() -> upsertPage(state, toStore, pageWatermark, upsertFailure));
+                }
+            }
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+            logger.error("IGDB sync failed while fetching, resumable from watermark {}: {}", watermark, error);
+        }
+
+        // The single upsert thread runs pages in order, so the last one finishing means all have
+        try {
+            if (lastUpsert != null) {
+                lastUpsert.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = "Sync interrupted";
+        } catch (ExecutionException e) {
+            error = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+        }
+        if (upsertFailure.get() != null) {
+            error = upsertFailure.get().getMessage();
+        }
+
+        status = status.toBuilder()
+                .running(false)
+                .watermark(state.getWatermark())
+                .finishedAt(LocalDateTime.now())
+                .lastError(error)
+                .build();
+        if (error == null) {
+            logger.info("IGDB sync finished: {} pages, {} new, {} updated, {} unchanged; watermark {}",
+                    status.getPagesSynced(), status.getGamesInserted(), status.getGamesUpdated(),
+                    status.getGamesUnchanged(), state.getWatermark());
+        }
+        return status;
+    }
+
+    private static long updatedAt(IGDBGameResponseDto game, long fallback) {
+        return game.getUpdatedAt() != null ? game.getUpdatedAt() : fallback;
+    }
+
+    // Runs on the upsert thread; pages arrive in fetch order, so the stored watermark only moves forward
+    private void upsertPage(IgdbSyncStateEntity state, List<IGDBGameResponseDto> page, long watermark,
+                            AtomicReference<RuntimeException> failure) {
+        if (failure.get() != null) {
+            return;
+        }
+
+        try {
+            List<GameEntity> games = page.stream()
+                    .map(igdbGameConverter::toGameEntity)
+                    .collect(Collectors.toList());
+            GameUpsertResultDto upsert = gameService.upsertGames(games);
+
+            state.setWatermark(watermark);
+            state.setGamesUpserted(state.getGamesUpserted() + games.size());
+            syncStateRepository.save(state);
+
+            status = status.toBuilder()
+                    .watermark(watermark)
+                    .pagesSynced(status.getPagesSynced() + 1)
+                    .gamesInserted(status.getGamesInserted() + upsert.getInserted())
+                    .gamesUpdated(status.getGamesUpdated() + upsert.getUpdated())
+                    .gamesUnchanged(status.getGamesUnchanged() + upsert.getUnchanged())
+                    .build();
+        } catch (RuntimeException e) {
+            failure.set(e);
+            logger.error("IGDB sync failed while storing a page, resumable from watermark {}: {}",
+                    state.getWatermark(), e.getMessage());
+        }
+    }
+
+    // Backpressure: a full queue makes the fetching thread wait rather than drop or run the page itself
+    private static void waitForQueueSpace(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("IGDB sync executor is shut down");
+        }
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the IGDB upsert queue", e);
+        }
+    }
+}
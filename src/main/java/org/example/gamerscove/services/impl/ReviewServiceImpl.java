@@ -1,11 +1,20 @@
 package org.example.gamerscove.services.impl;
 
+import org.example.gamerscove.domain.dto.ReviewSummaryDto;
 import org.example.gamerscove.domain.entities.ReviewEntity;
+import org.example.gamerscove.domain.pagination.CursorPage;
+import org.example.gamerscove.domain.pagination.ReviewCursor;
+import org.example.gamerscove.domain.pagination.ReviewSearchCursor;
+import org.example.gamerscove.domain.pagination.ReviewSort;
+import org.example.gamerscove.repositories.GameRatingStatsRepository;
 import org.example.gamerscove.repositories.ReviewRepository;
 import org.example.gamerscove.services.ReviewService;
+import org.example.gamerscove.timeline.ReviewCreatedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 
@@ -15,33 +24,38 @@ import java.util.List;
 public class ReviewServiceImpl implements ReviewService {
 
     private static final Logger logger = LoggerFactory.getLogger(ReviewServiceImpl.class);
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+
     private final ReviewRepository reviewRepository;
+    private final GameRatingStatsRepository ratingStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ReviewServiceImpl(ReviewRepository reviewRepository) {
+    public ReviewServiceImpl(ReviewRepository reviewRepository, GameRatingStatsRepository ratingStatsRepository,
+                             ApplicationEventPublisher eventPublisher) {
         this.reviewRepository = reviewRepository;
+        this.ratingStatsRepository = ratingStatsRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public ReviewEntity createReviewEntity(ReviewEntity reviewEntity) {
-        logger.info("=== CREATE REVIEW REQUEST ===");
-        logger.info("Creating review for game ID: {} by user ID: {}",
-                reviewEntity.getGameId(), reviewEntity.getUserId());
-        logger.info("Rating: {}/10", reviewEntity.getRating());
-        logger.info("Content preview: {}", reviewEntity.getContentPreview());
+        logger.debug("Creating review for game ID: {} by user ID: {} with rating {}/10",
+                reviewEntity.getGameId(), reviewEntity.getUserId(), reviewEntity.getRating());
 
         ReviewEntity savedReview = reviewRepository.save(reviewEntity);
-        logger.info("Review created successfully with ID: {}", savedReview.getId());
-        logger.info("============================");
+        ratingStatsRepository.applyDelta(savedReview.getGameId(), savedReview.getRating(), 1);
+        eventPublisher.publishEvent(new ReviewCreatedEvent(savedReview.getId(), savedReview.getUserId()));
+        logger.debug("Review created successfully with ID: {}", savedReview.getId());
 
         return savedReview;
     }
 
     @Override
+    @Transactional
     public ReviewEntity updateReviewEntity(ReviewEntity reviewEntity) {
-        logger.info("=== UPDATE REVIEW REQUEST ===");
-        logger.info("Updating review with ID: {}", reviewEntity.getId());
-        logger.info("New rating: {}/10", reviewEntity.getRating());
-        logger.info("New content preview: {}", reviewEntity.getContentPreview());
+        logger.debug("Updating review with ID: {} to rating {}/10", reviewEntity.getId(), reviewEntity.getRating());
 
         if (reviewEntity.getId() == null) {
             logger.error("Cannot update review without an ID");
@@ -54,49 +68,95 @@ public class ReviewServiceImpl implements ReviewService {
             throw new IllegalArgumentException("Review not found with ID: " + reviewEntity.getId());
         }
 
+        // Capture the old values before save() merges the new state into the managed entity
+        Long previousGameId = existingReview.get().getGameId();
+        int previousRating = existingReview.get().getRating();
+        // The incoming review has no creation time; without this the merge would null the stored one
+        reviewEntity.setCreatedAt(existingReview.get().getCreatedAt());
+
         ReviewEntity updatedReview = reviewRepository.save(reviewEntity);
-        logger.info("Review updated successfully");
-        logger.info("============================");
+        if (!previousGameId.equals(updatedReview.getGameId()) || previousRating != updatedReview.getRating()) {
+            ratingStatsRepository.applyDelta(previousGameId, previousRating, -1);
+            ratingStatsRepository.applyDelta(updatedReview.getGameId(), updatedReview.getRating(), 1);
+        }
+        logger.debug("Review updated successfully");
 
         return updatedReview;
     }
 
     @Override
+    @Transactional
     public void deleteReviewEntity(ReviewEntity reviewEntity) {
-        logger.info("=== DELETE REVIEW REQUEST ===");
-        logger.info("Deleting review with ID: {}", reviewEntity.getId());
+        logger.debug("Deleting review with ID: {}", reviewEntity.getId());
 
         if (reviewEntity.getId() == null) {
             logger.error("Cannot delete review without an ID");
             throw new IllegalArgumentException("Review ID cannot be null for delete operation");
         }
 
-        reviewRepository.delete(reviewEntity);
-        logger.info("Review deleted successfully");
-        logger.info("============================");
+        // Load the stored review: the caller may only know its ID, but the aggregates need its game and rating
+        ReviewEntity existingReview = reviewRepository.findById(reviewEntity.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Review not found with ID: " + reviewEntity.getId()));
+
+        reviewRepository.delete(existingReview);
+        ratingStatsRepository.applyDelta(existingReview.getGameId(), existingReview.getRating(), -1);
+        logger.debug("Review deleted successfully");
     }
 
     @Override
-    public List<ReviewEntity> findAllReviewsForGame_Id(Long id) {
-        logger.info("=== FIND REVIEWS FOR GAME ===");
-        logger.info("Searching for all reviews for game ID: {}", id);
+    public CursorPage<ReviewSummaryDto> findReviewPageForGame_Id(Long id, ReviewSort sort, String cursor, int limit) {
+        logger.debug("Fetching {} reviews for game ID: {} after cursor: {}", sort.getValue(), id, cursor);
 
-        List<ReviewEntity> reviews = reviewRepository.findByGame_Id(id);
-        logger.info("Found {} reviews for game ID: {}", reviews.size(), id);
-        logger.info("============================");
+        int pageSize = clampPageSize(limit);
+        List<ReviewSummaryDto> reviews = reviewRepository.findGameReviewPage(id, sort, decodeCursor(cursor, sort), pageSize + 1);
+        return toPage(reviews, sort, pageSize);
+    }
 
-        return reviews;
+    @Override
+    public CursorPage<ReviewSummaryDto> findReviewPageForUser_Id(Long id, ReviewSort sort, String cursor, int limit) {
+        logger.debug("Fetching {} reviews by user ID: {} after cursor: {}", sort.getValue(), id, cursor);
+
+        int pageSize = clampPageSize(limit);
+        List<ReviewSummaryDto> reviews = reviewRepository.findUserReviewPage(id, sort, decodeCursor(cursor, sort), pageSize + 1);
+        return toPage(reviews, sort, pageSize);
     }
 
     @Override
-    public List<ReviewEntity> findAllReviewsForUser_Id(Long id) {
-        logger.info("=== FIND REVIEWS FOR USER ===");
-        logger.info("Searching for all reviews by user ID: {}", id);
+    public CursorPage<ReviewSummaryDto> searchReviews(String query, Long gameId, String cursor, int limit) {
+        logger.debug("Searching reviews for '{}' in game ID: {} after cursor: {}", query, gameId, cursor);
+
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be empty");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query is longer than " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
 
-        List<ReviewEntity> reviews = reviewRepository.findByUser_Id(id);
-        logger.info("Found {} reviews by user ID: {}", reviews.size(), id);
-        logger.info("============================");
+        int pageSize = clampPageSize(limit);
+        ReviewSearchCursor after = cursor == null || cursor.isBlank() ? null : ReviewSearchCursor.decode(cursor);
+        List<ReviewSummaryDto> hits = reviewRepository.searchReviews(query.trim(), gameId, after, pageSize + 1);
 
-        return reviews;
+        if (hits.size() <= pageSize) {
+            return CursorPage.of(hits, null);
+        }
+        List<ReviewSummaryDto> page = hits.subList(0, pageSize);
+        return CursorPage.of(page, ReviewSearchCursor.after(page.get(pageSize - 1)).encode());
+    }
+
+    private static int clampPageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    private static ReviewCursor decodeCursor(String cursor, ReviewSort sort) {
+        return cursor == null || cursor.isBlank() ? null : ReviewCursor.decode(cursor, sort);
+    }
+
+    // The query fetched one row past the page; its presence tells us another page exists
+    private static CursorPage<ReviewSummaryDto> toPage(List<ReviewSummaryDto> reviews, ReviewSort sort, int pageSize) {
+        if (reviews.size() <= pageSize) {
+            return CursorPage.of(reviews, null);
+        }
+        List<ReviewSummaryDto> page = reviews.subList(0, pageSize);
+        return CursorPage.of(page, ReviewCursor.after(sort, page.get(pageSize - 1)).encode());
     }
 }
@@ -0,0 +1,132 @@
+package org.example.gamerscove.services.impl;
+
+import org.example.gamerscove.domain.entities.GenreEntity;
+import org.example.gamerscove.domain.entities.PlatformEntity;
+import org.example.gamerscove.domain.entities.TagEntity;
+import org.example.gamerscove.repositories.GenreRepository;
+import org.example.gamerscove.repositories.PlatformRepository;
+import org.example.gamerscove.services.TagDictionaryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// Interns platform and genre names: each distinct name maps to one dictionary row, and rows
+// already seen are answered from memory. Dictionary rows are never renamed or deleted, so
+// the in-memory copies cannot go stale.
+@Service
+public class TagDictionaryServiceImpl implements TagDictionaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagDictionaryServiceImpl.class);
+
+    private final Dictionary<PlatformEntity> platforms;
+    private final Dictionary<GenreEntity> genres;
+
+    public TagDictionaryServiceImpl(PlatformRepository platformRepository, GenreRepository genreRepository) {
+        this.platforms = new Dictionary<>("platform",
+                platformRepository::findByNameKeyIn, platformRepository::insertMissing);
+        this.genres = new Dictionary<>("genre",
+                genreRepository::findByNameKeyIn, genreRepository::insertMissing);
+    }
+
+    @Override
+    public Set<PlatformEntity> internPlatforms(Collection<String> names) {
+        return platforms.intern(names);
+    }
+
+    @Override
+    public Set<GenreEntity> internGenres(Collection<String> names) {
+        return genres.intern(names);
+    }
+
+    @Override
+    public Optional<PlatformEntity> findPlatform(String name) {
+        return platforms.find(name);
+    }
+
+    @Override
+    public Optional<GenreEntity> findGenre(String name) {
+        return genres.find(name);
+    }
+
+    private static final class Dictionary<T extends TagEntity> {
+
+        private final String kind;
+        private final Function<Collection<String>, List<T>> loader;
+        private final BiFunction<String[], String[], Integer> inserter;
+        private final Map<String, T> byKey = new ConcurrentHashMap<>();
+
+        Dictionary(String kind, Function<Collection<String>, List<T>> loader,
+                   BiFunction<String[], String[], Integer> inserter) {
+            this.kind = kind;
+            this.loader = loader;
+            this.inserter = inserter;
+        }
+
+        Set<T> intern(Collection<String> names) {
+            // Display name by key, first spelling wins, in caller order
+            Map<String, String> wanted = new LinkedHashMap<>();
+            for (String name : names) {
+                if (name != null && !name.isBlank()) {
+                    wanted.putIfAbsent(TagEntity.keyOf(name), name.trim());
+                }
+            }
+
+            List<String> missingKeys = new ArrayList<>();
+            for (String key : wanted.keySet()) {
+                if (!byKey.containsKey(key)) {
+                    missingKeys.add(key);
+                }
+            }
+
+            if (!missingKeys.isEmpty()) {
+                String[] missingNames = missingKeys.stream().map(wanted::get).toArray(String[]::new);
+                int created = inserter.apply(missingNames, missingKeys.toArray(String[]::new));
+                if (created > 0) {
+                    logger.info("Created {} new {} tags", created, kind);
+                }
+                load(missingKeys);
+            }
+
+            Set<T> tags = new LinkedHashSet<>();
+            for (String key : wanted.keySet()) {
+                T tag = byKey.get(key);
+                if (tag == null) {
+                    throw new IllegalStateException("Failed to intern " + kind + " '" + wanted.get(key) + "'");
+                }
+                tags.add(tag);
+            }
+            return tags;
+        }
+
+        Optional<T> find(String name) {
+            if (name == null || name.isBlank()) {
+                return Optional.empty();
+            }
+            String key = TagEntity.keyOf(name);
+            T tag = byKey.get(key);
+            if (tag == null) {
+                load(List.of(key));
+                tag = byKey.get(key);
+            }
+            return Optional.ofNullable(tag);
+        }
+
+        private void load(Collection<String> keys) {
+            for (T tag : loader.apply(keys)) {
+                byKey.putIfAbsent(tag.getNameKey(), tag);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.gamerscove.services.impl;
+
+import org.example.gamerscove.domain.dto.ReviewSummaryDto;
+import org.example.gamerscove.domain.pagination.CursorCodec;
+import org.example.gamerscove.domain.pagination.CursorPage;
+import org.example.gamerscove.graph.FriendGraph;
+import org.example.gamerscove.repositories.FriendshipRepository;
+import org.example.gamerscove.repositories.ReviewRepository;
+import org.example.gamerscove.services.TimelineService;
+import org.example.gamerscove.timeline.ReviewCreatedEvent;
+import org.example.gamerscove.timeline.TimelineStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+// Friends' reviews feed. Reviews are fanned out on write: once a review commits, its id is appended
+// to the timeline of each of the author's friends. Authors with at least timeline.fan-out-limit
+// friends are skipped on write; readers pull those friends' newest reviews instead and merge them
+// in. A page reads at most limit + 1 ids from the timeline and from each such friend, then loads
+// just the page's reviews, so its cost follows the page size rather than the friend count.
+@Service
+public class TimelineServiceImpl implements TimelineService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimelineServiceImpl.class);
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TimelineStore timelineStore;
+    private final FriendGraph friendGraph;
+    private final FriendshipRepository friendshipRepository;
+    private final ReviewRepository reviewRepository;
+    private final int fanOutLimit;
+
+    public TimelineServiceImpl(TimelineStore timelineStore, FriendGraph friendGraph,
+                               FriendshipRepository friendshipRepository, ReviewRepository reviewRepository,
+                               @Value("${timeline.fan-out-limit:1000}") int fanOutLimit) {
+        this.timelineStore = timelineStore;
+        this.friendGraph = friendGraph;
+        this.friendshipRepository = friendshipRepository;
+        this.reviewRepository = reviewRepository;
+        this.fanOutLimit = fanOutLimit;
+    }
+
+    @Override
+    public CursorPage<ReviewSummaryDto> getFeed(Long userId, String cursor, int limit) {
+        logger.debug("Fetching feed for user ID: {} after cursor: {}", userId, cursor);
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Long beforeId = cursor == null || cursor.isBlank() ? null : CursorCodec.decodeLong(cursor);
+
+        long[] pushed = timelineStore.page(userId, beforeId, pageSize + 1);
+        long[] highDegreeFriends = highDegreeFriends(userId);
+        long[] reviewIds = pushed;
+        if (highDegreeFriends.length > 0) {
+            long[] pulled = reviewRepository.findRecentReviewIdsByUsers(highDegreeFriends, beforeId, pageSize + 1)
+                    .stream().mapToLong(Long::longValue).toArray();
+            reviewIds = LongStream.concat(Arrays.stream(pushed), Arrays.stream(pulled))
+                    .boxed()
+                    .sorted(Comparator.reverseOrder())
+                    .distinct()
+                    .limit(pageSize + 1)
+                    .mapToLong(Long::longValue)
+                    .toArray();
+        }
+
+        boolean hasMore = reviewIds.length > pageSize;
+        long[] pageIds = hasMore ? Arrays.copyOf(reviewIds, pageSize) : reviewIds;
+
+        // Reviews deleted since they were pushed simply drop out of the page
+        Map<Long, ReviewSummaryDto> reviewsById = reviewRepository.findSummariesByIds(pageIds).stream()
+                .collect(Collectors.toMap(ReviewSummaryDto::getId, Function.identity()));
+        List<ReviewSummaryDto> reviews = Arrays.stream(pageIds)
+                .mapToObj(reviewsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return CursorPage.of(reviews, hasMore ? CursorCodec.encode(pageIds[pageSize - 1]) : null);
+    }
+
+    // Runs after the review commits; TimelineStore commits the fan-out itself before updating its rings
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        long[] friendIds = friendIds(event.authorId());
+        if (friendIds.length >= fanOutLimit) {
+            logger.debug("Skipping fan-out of review ID: {}: author has {} friends", event.reviewId(), friendIds.length);
+            return;
+        }
+        try {
+            timelineStore.append(friendIds, event.reviewId());
+        } catch (RuntimeException e) {
+            // The review itself is saved; only the friends' feeds miss it
+            logger.error("Failed to fan out review ID: {}: {}", event.reviewId(), e.getMessage(), e);
+        }
+    }
+
+    private long[] highDegreeFriends(long userId) {
+        if (!friendGraph.isReady()) {
+            return new long[0];
+        }
+        return Arrays.stream(friendGraph.friendIds(userId))
+                .filter(friendId -> friendGraph.friendCount(friendId) >= fanOutLimit)
+                .toArray();
+    }
+
+    // Sorted ascending, as TimelineStore.append expects
+    private long[] friendIds(long userId) {
+        if (friendGraph.isReady()) {
+            return friendGraph.friendIds(userId);
+        }
+        return friendshipRepository.findFriendIds(userId).stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+}
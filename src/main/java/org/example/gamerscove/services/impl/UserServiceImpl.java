@@ -1,5 +1,6 @@
 package org.example.gamerscove.services.impl;
 
+import org.example.gamerscove.cache.UserCache;
 import org.example.gamerscove.domain.entities.UserEntity;
 import org.example.gamerscove.repositories.UserRepository;
 import org.example.gamerscove.services.UserService;
@@ -7,104 +8,134 @@ import org.slf4j.*;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 public class UserServiceImpl implements UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
+    private static final int MAX_FAVORITED_BY_RESULTS = 100;
+
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, UserCache userCache) {
         this.userRepository = userRepository;
+        this.userCache = userCache;
     }
 
     @Override
     public UserEntity createUser(UserEntity userEntity) {
-        logger.info("=== CREATE USER REQUEST ===");
-        logger.info("Creating user with Firebase UID: {}", userEntity.getFirebaseUid());
-        logger.info("Username: {}", userEntity.getUsername());
-        logger.info("Email: {}", userEntity.getEmail());
-        logger.info("Bio: {}", userEntity.getBio());
-        logger.info("Avatar URL: {}", userEntity.getAvatarUrl());
-
-        if (userEntity.getPreferredPlatforms() != null) {
-            logger.info("Preferred Platforms: {}", String.join(", ", userEntity.getPreferredPlatforms()));
-        }
-
-        if (userEntity.getFavoriteGames() != null) {
-            logger.info("Favorite Games: {}", String.join(", ", userEntity.getFavoriteGames()));
-        }
-
-        logger.info("Gamertags: {}", userEntity.getGamertags());
-        logger.info("Gamertags Visibility: {}", userEntity.getGamertagsVisibility());
+        logger.debug("Creating user '{}' with Firebase UID: {}", userEntity.getUsername(), userEntity.getFirebaseUid());
 
         UserEntity savedUser = userRepository.save(userEntity);
-        logger.info("User created successfully with ID: {}", savedUser.getId());
-        logger.info("============================");
+        userCache.invalidate(savedUser.getId());
+        logger.debug("User created successfully with ID: {}", savedUser.getId());
 
         return savedUser;
     }
 
     @Override
     public Optional<UserEntity> findByFirebaseUid(String firebaseUid) {
-        logger.info("=== FIND USER BY FIREBASE UID ===");
-        logger.info("Searching for user with Firebase UID: {}", firebaseUid);
+        logger.debug("Searching for user with Firebase UID: {}", firebaseUid);
 
-        Optional<UserEntity> user = userRepository.findByFirebaseUid(firebaseUid);
+        Optional<UserEntity> user = cachedLookup(userCache.getByFirebaseUid(firebaseUid),
+                () -> userRepository.findByFirebaseUid(firebaseUid));
         if (user.isPresent()) {
-            logger.info("User found: {}", user.get().getUsername());
+            logger.debug("User found: {}", user.get().getUsername());
         } else {
-            logger.info("No user found with Firebase UID: {}", firebaseUid);
+            logger.debug("No user found with Firebase UID: {}", firebaseUid);
         }
-        logger.info("=================================");
 
         return user;
     }
 
     @Override
     public Optional<UserEntity> findByUsername(String username) {
-        logger.info("=== FIND USER BY USERNAME ===");
-        logger.info("Searching for user with username: {}", username);
+        logger.debug("Searching for user with username: {}", username);
 
-        Optional<UserEntity> user = userRepository.findByUsername(username);
+        Optional<UserEntity> user = cachedLookup(userCache.getByUsername(username),
+                () -> userRepository.findByUsername(username));
         if (user.isPresent()) {
-            logger.info("User found with ID: {}", user.get().getId());
+            logger.debug("User found with ID: {}", user.get().getId());
         } else {
-            logger.info("No user found with username: {}", username);
+            logger.debug("No user found with username: {}", username);
         }
-        logger.info("==============================");
 
         return user;
     }
 
     @Override
     public Optional<UserEntity> findById(Long id) {
-        logger.info("=== FIND USER BY ID ===");
-        logger.info("Searching for user with ID: {}", id);
+        logger.debug("Searching for user with ID: {}", id);
 
-        Optional<UserEntity> user = userRepository.findById(id);
+        Optional<UserEntity> user = cachedLookup(userCache.getById(id),
+                () -> userRepository.findWithGamertagsById(id));
         if (user.isPresent()) {
-            logger.info("User found: {}", user.get().getUsername());
+            logger.debug("User found: {}", user.get().getUsername());
         } else {
-            logger.info("No user found with ID: {}", id);
+            logger.debug("No user found with ID: {}", id);
         }
-        logger.info("=======================");
 
         return user;
     }
 
     @Override
     public UserEntity updateUser(UserEntity userEntity) {
-        logger.info("=== UPDATE USER REQUEST ===");
-        logger.info("Updating user with ID: {}", userEntity.getId());
-        logger.info("New data - Username: {}", userEntity.getUsername());
-        logger.info("New data - Bio: {}", userEntity.getBio());
+        logger.debug("Updating user with ID: {}", userEntity.getId());
 
         UserEntity updatedUser = userRepository.save(userEntity);
-        logger.info("User updated successfully");
-        logger.info("===========================");
+        userCache.invalidate(updatedUser.getId());
+        logger.debug("User updated successfully");
 
         return updatedUser;
     }
+
+    // The index lookup returns only ids; the users themselves come through the user cache
+    @Override
+    public List<UserEntity> findUsersWhoFavorited(Long gameId, int limit) {
+        logger.debug("Finding users who favorited game ID: {}", gameId);
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_FAVORITED_BY_RESULTS));
+        List<UserEntity> users = new ArrayList<>();
+        for (Long userId : userRepository.findIdsByFavoriteGameId(gameId, pageSize)) {
+            findById(userId).ifPresent(users::add);
+        }
+        return users;
+    }
+
+    // Both return false when the user does not exist. The cache entry is dropped after the
+    // update has committed, so a concurrent read cannot re-cache the old favorites.
+    @Override
+    public boolean addFavoriteGame(Long userId, Long gameId) {
+        logger.debug("Adding game ID: {} to favorites of user ID: {}", gameId, userId);
+
+        boolean updated = userRepository.addFavoriteGameId(userId, gameId) > 0;
+        userCache.invalidate(userId);
+        return updated;
+    }
+
+    @Override
+    public boolean removeFavoriteGame(Long userId, Long gameId) {
+        logger.debug("Removing game ID: {} from favorites of user ID: {}", gameId, userId);
+
+        boolean updated = userRepository.removeFavoriteGameId(userId, gameId) > 0;
+        userCache.invalidate(userId);
+        return updated;
+    }
+
+    private Optional<UserEntity> cachedLookup(UserEntity cached, Supplier<Optional<UserEntity>> loader) {
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // Hits and misses alike return a detached copy, never the persistence context's managed instance
+        long generation = userCache.writeGeneration();
+        Optional<UserEntity> user = loader.get().map(UserCache::detachedCopy);
+        user.ifPresent(found -> userCache.put(found, generation));
+        return user;
+    }
 }
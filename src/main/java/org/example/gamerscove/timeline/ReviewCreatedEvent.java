@@ -0,0 +1,5 @@
+package org.example.gamerscove.timeline;
+
+// Published by ReviewService after a review is saved; fanned out to the author's friends once it commits
+public record ReviewCreatedEvent(long reviewId, long authorId) {
+}
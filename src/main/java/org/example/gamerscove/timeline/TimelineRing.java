@@ -0,0 +1,82 @@
+package org.example.gamerscove.timeline;
+
+/**
+ * Fixed-capacity ring of review ids kept in ascending order; once full, adding an id drops the
+ * oldest (smallest). Ids usually arrive in order, so an add is a store at the tail. An id that
+ * commits slightly out of order is moved back into place.
+ * <p>
+ * Not thread-safe; {@link TimelineStore} reads and writes each ring under the ring's own monitor.
+ */
+public final class TimelineRing {
+
+    private final long[] ids;
+    private int head;
+    private int size;
+
+    public TimelineRing(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.ids = new long[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void add(long reviewId) {
+        int existing = lowerBound(reviewId);
+        if (existing < size && get(existing) == reviewId) {
+            return;
+        }
+        if (size == ids.length) {
+            if (reviewId <= get(0)) {
+                return;
+            }
+            head = (head + 1) % ids.length;
+            size--;
+        }
+
+        int position = size;
+        while (position > 0 && get(position - 1) > reviewId) {
+            set(position, get(position - 1));
+            position--;
+        }
+        set(position, reviewId);
+        size++;
+    }
+
+    // Up to limit ids below beforeId (all ids when null), newest first
+    public long[] before(Long beforeId, int limit) {
+        int end = beforeId == null ? size : lowerBound(beforeId);
+        int count = Math.min(limit, end);
+        long[] page = new long[count];
+        for (int i = 0; i < count; i++) {
+            page[i] = get(end - 1 - i);
+        }
+        return page;
+    }
+
+    // First logical index whose id is >= value
+    private int lowerBound(long value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (get(middle) < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long get(int index) {
+        return ids[(head + index) % ids.length];
+    }
+
+    private void set(int index, long value) {
+        ids[(head + index) % ids.length] = value;
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.gamerscove.timeline;
+
+import org.example.gamerscove.cache.MeteredCache;
+import org.example.gamerscove.domain.dto.CacheStatsDto;
+import org.example.gamerscove.domain.entities.UserTimelineEntity;
+import org.example.gamerscove.repositories.UserTimelineRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-user timelines of friends' review ids. The user_timelines table is the source of truth;
+ * the most recently read timelines are also held as {@link TimelineRing}s, so a feed page is a
+ * binary search and a copy. Writes commit to the table in their own transaction first and only
+ * then go to any resident ring, so a ring never holds an id the table lost, and a load that
+ * starts after the ring update reads the committed row.
+ * <p>
+ * The store's monitor only guards the map of resident rings and the load queues; each ring is
+ * read and written under its own monitor, so feed reads for different users do not contend.
+ * A ring is loaded outside any lock. Appends that land while a user's ring is loading are
+ * queued and replayed onto it before it is installed, so a load never hides a write.
+ */
+@Component
+public class TimelineStore implements MeteredCache {
+
+    private final UserTimelineRepository timelineRepository;
+    private final TransactionOperations appendTransaction;
+    private final int capacity;
+    private final int maxUsers;
+    private final LinkedHashMap<Long, TimelineRing> rings;
+    private final Map<Long, List<Long>> appendsDuringLoad = new HashMap<>();
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    @Autowired
+    public TimelineStore(UserTimelineRepository timelineRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${timeline.capacity:500}") int capacity,
+                         @Value("${timeline.cache.max-users:10000}") int maxUsers) {
+        this(timelineRepository, requiresNew(transactionManager), capacity, maxUsers);
+    }
+
+    TimelineStore(UserTimelineRepository timelineRepository, TransactionOperations appendTransaction,
+                  int capacity, int maxUsers) {
+        if (maxUsers <= 0) {
+            throw new IllegalArgumentException("maxUsers must be positive");
+        }
+        this.timelineRepository = timelineRepository;
+        this.appendTransaction = appendTransaction;
+        this.capacity = capacity;
+        this.maxUsers = maxUsers;
+        this.rings = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, TimelineRing> eldest) {
+                if (size() > TimelineStore.this.maxUsers) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return "timelines";
+    }
+
+    // userIds must be sorted ascending (FriendGraph adjacency already is)
+    public void append(long[] userIds, long reviewId) {
+        // Committed before any ring or load queue sees the id: a load registered after the block
+        // below reads the committed row, one registered before it gets the id replayed
+        appendTransaction.executeWithoutResult(status -> timelineRepository.appendReviewId(userIds, reviewId, capacity));
+
+        List<TimelineRing> resident = new ArrayList<>();
+        synchronized (this) {
+            for (long userId : userIds) {
+                TimelineRing ring = rings.get(userId);
+                if (ring != null) {
+                    resident.add(ring);
+                }
+                List<Long> pending = appendsDuringLoad.get(userId);
+                if (pending != null) {
+                    pending.add(reviewId);
+                }
+            }
+        }
+        // A ring evicted in between only takes a write nobody will read
+        for (TimelineRing ring : resident) {
+            synchronized (ring) {
+                ring.add(reviewId);
+            }
+        }
+    }
+
+    // Up to limit review ids below beforeId (null for the newest), newest first
+    public long[] page(long userId, Long beforeId, int limit) {
+        TimelineRing ring;
+        synchronized (this) {
+            ring = rings.get(userId);
+            if (ring != null) {
+                hits++;
+            } else {
+                misses++;
+                appendsDuringLoad.putIfAbsent(userId, new ArrayList<>());
+            }
+        }
+        if (ring != null) {
+            return before(ring, beforeId, limit);
+        }
+
+        TimelineRing loaded = new TimelineRing(capacity);
+        try {
+            timelineRepository.findById(userId)
+                    .map(UserTimelineEntity::getReviewIds)
+                    .ifPresent(reviewIds -> {
+                        for (long reviewId : reviewIds) {
+                            loaded.add(reviewId);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                appendsDuringLoad.remove(userId);
+            }
+            throw e;
+        }
+
+        TimelineRing installed;
+        synchronized (this) {
+            // A concurrent load of the same user may have installed its ring (and replayed the queue) first
+            installed = rings.get(userId);
+            if (installed == null) {
+                List<Long> pending = appendsDuringLoad.remove(userId);
+                if (pending != null) {
+                    pending.forEach(loaded::add);
+                }
+                rings.put(userId, loaded);
+                installed = loaded;
+            }
+        }
+        return before(installed, beforeId, limit);
+    }
+
+    private static long[] before(TimelineRing ring, Long beforeId, int limit) {
+        synchronized (ring) {
+            return ring.before(beforeId, limit);
+        }
+    }
+
+    // Appends usually run from an after-commit listener, where the finished transaction's
+    // connection is still bound; a new transaction makes the write actually commit
+    private static TransactionOperations requiresNew(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    @Override
+    public synchronized CacheStatsDto stats() {
+        return CacheStatsDto.builder()
+                .name(getName())
+                .size(rings.size())
+                .maxSize(maxUsers)
+                .hits(hits)
+                .misses(misses)
+                .evictions(evictions)
+                .build();
+    }
+}
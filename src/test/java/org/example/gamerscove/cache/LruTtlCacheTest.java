@@ -0,0 +1,79 @@
+package org.example.gamerscove.cache;
+
+import org.example.gamerscove.domain.dto.CacheStatsDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LruTtlCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void evictsLeastRecentlyReadEntryWhenFull() {
+        LruTtlCache<Long, String> cache = new LruTtlCache<>("test", 2, Duration.ofMinutes(1), clock::get);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+
+        // Reading 1 makes 2 the eldest
+        assertThat(cache.getIfPresent(1L)).isEqualTo("one");
+        cache.put(3L, "three");
+
+        assertThat(cache.getIfPresent(2L)).isNull();
+        assertThat(cache.getIfPresent(1L)).isEqualTo("one");
+        assertThat(cache.getIfPresent(3L)).isEqualTo("three");
+
+        CacheStatsDto stats = cache.stats();
+        assertThat(stats.getEvictions()).isEqualTo(1);
+        assertThat(stats.getHits()).isEqualTo(3);
+        assertThat(stats.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void reloadsExpiredEntriesAndDoesNotCacheMissingValues() {
+        LruTtlCache<Long, String> cache = new LruTtlCache<>("test", 10, Duration.ofSeconds(30), clock::get);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(1L, id -> "game-" + loads.incrementAndGet())).isEqualTo("game-1");
+        assertThat(cache.get(1L, id -> "game-" + loads.incrementAndGet())).isEqualTo("game-1");
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(cache.get(1L, id -> "game-" + loads.incrementAndGet())).isEqualTo("game-2");
+
+        assertThat(cache.get(2L, id -> null)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.stats().getExpirations()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsValueLoadedAcrossAnInvalidation() {
+        LruTtlCache<Long, String> cache = new LruTtlCache<>("test", 10, Duration.ofMinutes(1), clock::get);
+
+        // The row changes and its key is evicted while the load is still reading the old state
+        assertThat(cache.get(1L, id -> {
+            cache.invalidate(1L);
+            return "stale";
+        })).isEqualTo("stale");
+        assertThat(cache.getIfPresent(1L)).isNull();
+
+        assertThat(cache.get(1L, id -> "fresh")).isEqualTo("fresh");
+        assertThat(cache.getIfPresent(1L)).isEqualTo("fresh");
+    }
+
+    @Test
+    void countersLeaveExpiredEntriesForTheNextPurge() {
+        LruTtlCache<Long, String> cache = new LruTtlCache<>("test", 10, Duration.ofSeconds(30), clock::get);
+        cache.put(1L, "one");
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertThat(cache.counters().getSize()).isEqualTo(1);
+        assertThat(cache.counters().getExpirations()).isZero();
+
+        assertThat(cache.stats().getSize()).isZero();
+        assertThat(cache.counters().getExpirations()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.gamerscove.cache;
+
+import org.example.gamerscove.domain.entities.UserEntity;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCacheTest {
+
+    private final UserCache cache = new UserCache("users", 2);
+
+    @Test
+    void reachesOneEntryByAllThreeKeys() {
+        UserEntity user = user(1L, "zelda_fan", "uid-1");
+        cache.put(user, cache.writeGeneration());
+
+        assertThat(cache.getById(1L)).isEqualTo(user);
+        assertThat(cache.getByUsername("zelda_fan")).isEqualTo(user);
+        assertThat(cache.getByFirebaseUid("uid-1")).isEqualTo(user);
+
+        cache.invalidate(1L);
+        assertThat(cache.getById(1L)).isNull();
+        assertThat(cache.getByUsername("zelda_fan")).isNull();
+        assertThat(cache.getByFirebaseUid("uid-1")).isNull();
+    }
+
+    @Test
+    void renameAndEvictionKeepSecondaryKeysConsistent() {
+        cache.put(user(1L, "old_name", "uid-1"), cache.writeGeneration());
+        cache.put(user(1L, "new_name", "uid-1"), cache.writeGeneration());
+        assertThat(cache.getByUsername("old_name")).isNull();
+        assertThat(cache.getByUsername("new_name").getId()).isEqualTo(1L);
+
+        // Another user takes the freed name; evicting user 1 must not drop user 2's mapping
+        cache.put(user(2L, "old_name", "uid-2"), cache.writeGeneration());
+        cache.put(user(3L, "third", "uid-3"), cache.writeGeneration());
+
+        assertThat(cache.getById(1L)).isNull();
+        assertThat(cache.getByUsername("new_name")).isNull();
+        assertThat(cache.getByFirebaseUid("uid-1")).isNull();
+        assertThat(cache.getByUsername("old_name").getId()).isEqualTo(2L);
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsUserLoadedBeforeAConcurrentWrite() {
+        long generation = cache.writeGeneration();
+        UserEntity loadedBeforeUpdate = user(1L, "zelda_fan", "uid-1");
+
+        // A write to any user commits while the load was in flight
+        cache.invalidate(7L);
+        cache.put(loadedBeforeUpdate, generation);
+
+        assertThat(cache.getById(1L)).isNull();
+        assertThat(cache.getByUsername("zelda_fan")).isNull();
+    }
+
+    @Test
+    void callersCannotChangeTheCachedUser() {
+        UserEntity user = user(1L, "zelda_fan", "uid-1");
+        user.getGamertags().put("Steam", "zelda_fan_pc");
+        cache.put(user, cache.writeGeneration());
+
+        // Neither the instance that was put nor one that was handed out is the cached one
+        user.setBio("changed after put");
+        UserEntity returned = cache.getById(1L);
+        returned.getGamertags().put("Steam", "someone_else");
+        returned.setUsername("renamed");
+
+        UserEntity cached = cache.getById(1L);
+        assertThat(cached).isNotSameAs(returned);
+        assertThat(cached.getBio()).isNull();
+        assertThat(cached.getUsername()).isEqualTo("zelda_fan");
+        assertThat(cached.getGamertags()).containsEntry("Steam", "zelda_fan_pc");
+    }
+
+    private static UserEntity user(Long id, String username, String firebaseUid) {
+        return UserEntity.builder().id(id).username(username).firebaseUid(firebaseUid).build();
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.gamerscove.clients;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IgdbResponseCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void expiresAfterTtlAndTouchRestartsIt() throws IOException {
+        MutableClock clock = new MutableClock();
+        IgdbResponseCache cache = new IgdbResponseCache(new IgdbCacheProperties(true, directory, Duration.ofHours(1), false), clock);
+        String key = IgdbResponseCache.keyOf("https://api.igdb.com/v4/games", "fields name; limit 10;");
+
+        assertThat(cache.get(key)).isEmpty();
+        cache.put(key, "[{\"id\":1}]".getBytes(StandardCharsets.UTF_8), "\"v1\"");
+
+        IgdbResponseCache.Entry entry = cache.get(key).orElseThrow();
+        assertThat(entry.fresh()).isTrue();
+        assertThat(entry.etag()).isEqualTo("\"v1\"");
+        try (InputStream body = entry.openBody()) {
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("[{\"id\":1}]");
+        }
+
+        clock.advance(Duration.ofHours(2));
+        assertThat(cache.get(key).orElseThrow().fresh()).isFalse();
+
+        cache.touch(key);
+        assertThat(cache.get(key).orElseThrow().fresh()).isTrue();
+
+        // A new instance over the same directory sees the stored entry
+        assertThat(new IgdbResponseCache(new IgdbCacheProperties(true, directory, null, false)).stats().getSize()).isEqualTo(1);
+        assertThat(cache.stats().getHits()).isEqualTo(2);
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+        assertThat(cache.stats().getExpirations()).isEqualTo(1);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+    }
+}
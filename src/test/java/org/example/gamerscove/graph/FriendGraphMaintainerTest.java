@@ -0,0 +1,37 @@
+package org.example.gamerscove.graph;
+
+import org.example.gamerscove.domain.entities.FriendshipEntity;
+import org.example.gamerscove.repositories.FriendshipRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FriendGraphMaintainerTest {
+
+    private final FriendshipRepository friendshipRepository = mock(FriendshipRepository.class);
+    private final FriendGraph friendGraph = new FriendGraph();
+    private final FriendGraphMaintainer maintainer = new FriendGraphMaintainer(friendshipRepository, friendGraph);
+
+    @Test
+    void appliesThePairsCurrentStateWhateverOrderCallbacksRunIn() {
+        friendGraph.startBuild().install();
+
+        // Accept then unfriend commit back to back; the unfriend callback runs first
+        when(friendshipRepository.findByUserLowIdAndUserHighId(2L, 5L)).thenReturn(Optional.empty());
+        maintainer.onFriendshipChanged(new FriendshipChangedEvent(5, 2, false));
+        maintainer.onFriendshipChanged(new FriendshipChangedEvent(2, 5, true));
+
+        assertThat(friendGraph.areFriends(2, 5)).isFalse();
+
+        FriendshipEntity accepted = new FriendshipEntity(5L, 2L);
+        accepted.setStatus(FriendshipEntity.FriendshipStatus.ACCEPTED);
+        when(friendshipRepository.findByUserLowIdAndUserHighId(2L, 5L)).thenReturn(Optional.of(accepted));
+        maintainer.onFriendshipChanged(new FriendshipChangedEvent(5, 2, false));
+
+        assertThat(friendGraph.areFriends(5, 2)).isTrue();
+    }
+}
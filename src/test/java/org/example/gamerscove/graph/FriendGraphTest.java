@@ -0,0 +1,59 @@
+package org.example.gamerscove.graph;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FriendGraphTest {
+
+    @Test
+    void builtGraphAnswersBothDirectionsWithSortedDistinctIds() {
+        FriendGraph graph = new FriendGraph();
+        FriendGraph.Build build = graph.startBuild();
+        build.addPair(1, 9);
+        build.addPair(1, 3);
+        build.addPair(3, 9);
+        build.addPair(1, 3);
+
+        assertThat(graph.isReady()).isFalse();
+        build.install();
+
+        assertThat(graph.isReady()).isTrue();
+        assertThat(graph.friendIds(1)).containsExactly(3, 9);
+        assertThat(graph.friendIds(9)).containsExactly(1, 3);
+        assertThat(graph.areFriends(9, 3)).isTrue();
+        assertThat(graph.areFriends(9, 4)).isFalse();
+        assertThat(graph.areFriends(4, 9)).isFalse();
+    }
+
+    @Test
+    void changesApplyWriteThroughAndEmptyUsersAreDropped() {
+        FriendGraph graph = new FriendGraph();
+        graph.startBuild().install();
+
+        graph.apply(new FriendshipChangedEvent(5, 2, true));
+        graph.apply(new FriendshipChangedEvent(5, 7, true));
+        graph.apply(new FriendshipChangedEvent(5, 2, true));
+        assertThat(graph.friendIds(5)).containsExactly(2, 7);
+
+        graph.apply(new FriendshipChangedEvent(2, 5, false));
+        assertThat(graph.areFriends(2, 5)).isFalse();
+        assertThat(graph.friendIds(5)).containsExactly(7);
+        assertThat(graph.userCount()).isEqualTo(2);
+    }
+
+    @Test
+    void changesDuringABuildAreReplayedOntoTheInstalledGraph() {
+        FriendGraph graph = new FriendGraph();
+        FriendGraph.Build build = graph.startBuild();
+        build.addPair(1, 2);
+
+        // Committed while the scan was running: 1-2 unfriended, 1-3 accepted
+        graph.apply(new FriendshipChangedEvent(2, 1, false));
+        graph.apply(new FriendshipChangedEvent(1, 3, true));
+        build.install();
+
+        assertThat(graph.areFriends(1, 2)).isFalse();
+        assertThat(graph.friendIds(1)).containsExactly(3);
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.gamerscove.graph;
+
+import org.example.gamerscove.domain.dto.FriendSuggestionDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FriendSuggestionsTest {
+
+    private static FriendGraph graph(long[]... pairs) {
+        FriendGraph graph = new FriendGraph();
+        FriendGraph.Build build = graph.startBuild();
+        for (long[] pair : pairs) {
+            build.addPair(pair[0], pair[1]);
+        }
+        build.install();
+        return graph;
+    }
+
+    private static Map<Long, SuggestionProfile> profiles(long... userIds) {
+        Map<Long, SuggestionProfile> profiles = new HashMap<>();
+        for (long userId : userIds) {
+            profiles.put(userId, new SuggestionProfile(userId, "user" + userId, null, new String[0], new long[0]));
+        }
+        return profiles;
+    }
+
+    @Test
+    void ranksFriendsOfFriendsByMutualFriendsThenSharedInterests() {
+        // 1 knows 2 and 3; 4 is a friend of both, 5 and 6 of one each
+        FriendGraph graph = graph(new long[]{1, 2}, new long[]{1, 3}, new long[]{2, 4}, new long[]{3, 4},
+                new long[]{2, 5}, new long[]{3, 6});
+        Map<Long, SuggestionProfile> profiles = profiles(2, 3, 4, 5);
+        profiles.put(1L, new SuggestionProfile(1, "user1", null, new String[]{"pc", "psn"}, new long[]{10, 20}));
+        profiles.put(6L, new SuggestionProfile(6, "user6", null, new String[]{"psn"}, new long[]{20, 30}));
+
+        List<FriendSuggestionDto> suggestions = new FriendSuggestions(graph, profiles, Map.of(), 200, 10).computeFor(1);
+
+        assertThat(suggestions).extracting(FriendSuggestionDto::getUserId).containsExactly(4L, 6L, 5L);
+        assertThat(suggestions.get(0).getMutualFriends()).isEqualTo(2);
+        assertThat(suggestions.get(1).getSharedFavoriteGames()).isEqualTo(1);
+        assertThat(suggestions.get(1).getSharedPlatforms()).isEqualTo(1);
+    }
+
+    @Test
+    void neverSuggestsExcludedPairsOrExistingFriends() {
+        FriendGraph graph = graph(new long[]{1, 2}, new long[]{2, 3}, new long[]{2, 4}, new long[]{1, 4});
+        Map<Long, Set<Long>> excluded = Map.of(1L, Set.of(3L), 3L, Set.of(1L));
+
+        List<FriendSuggestionDto> suggestions = new FriendSuggestions(graph, profiles(1, 2, 3, 4), excluded, 200, 10)
+                .computeFor(1);
+
+        assertThat(suggestions).isEmpty();
+    }
+
+    @Test
+    void fanOutIsBoundedForLargeFriendLists() {
+        // 1 has 1000 friends who all know 5000; only maxFanOut of them are followed
+        long[][] pairs = new long[2000][];
+        for (int i = 0; i < 1000; i++) {
+            pairs[2 * i] = new long[]{1, 10 + i};
+            pairs[2 * i + 1] = new long[]{10 + i, 5000};
+        }
+        FriendGraph graph = graph(pairs);
+        Map<Long, SuggestionProfile> profiles = profiles(1, 5000);
+
+        List<FriendSuggestionDto> suggestions = new FriendSuggestions(graph, profiles, Map.of(), 100, 10).computeFor(1);
+
+        assertThat(suggestions).hasSize(1);
+        assertThat(suggestions.get(0).getMutualFriends()).isEqualTo(100);
+    }
+
+    @Test
+    void computeAllMatchesPerUserComputation() {
+        FriendGraph graph = graph(new long[]{1, 2}, new long[]{2, 3}, new long[]{3, 4}, new long[]{4, 5});
+        FriendSuggestions suggestions = new FriendSuggestions(graph, profiles(1, 2, 3, 4, 5), Map.of(), 200, 10);
+
+        Map<Long, List<FriendSuggestionDto>> all = suggestions.computeAll(new ForkJoinPool(2));
+
+        assertThat(all).containsOnlyKeys(1L, 2L, 3L, 4L, 5L);
+        assertThat(all.get(3L)).isEqualTo(suggestions.computeFor(3));
+        assertThat(all.get(1L)).extracting(FriendSuggestionDto::getUserId).containsExactly(3L);
+    }
+}
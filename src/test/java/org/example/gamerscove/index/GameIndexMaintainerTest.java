@@ -0,0 +1,65 @@
+package org.example.gamerscove.index;
+
+import org.example.gamerscove.domain.entities.GameEntity;
+import org.example.gamerscove.services.GameService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class GameIndexMaintainerTest {
+
+    private final GameService gameService = mock(GameService.class);
+    private final GameTitleIndex titleIndex = new GameTitleIndex();
+    private final GameIndexMaintainer maintainer = new GameIndexMaintainer(gameService, List.of(titleIndex));
+
+    @AfterEach
+    void tearDown() {
+        maintainer.shutdown();
+    }
+
+    @Test
+    void retriesAFailedBuildUntilItSucceeds() throws Exception {
+        doThrow(new IllegalStateException("database down")).when(gameService).forEachPage(anyInt(), any());
+        maintainer.rebuildAll();
+
+        assertThatThrownBy(() -> titleIndex.search("zelda", 5)).isInstanceOf(IllegalStateException.class);
+
+        doAnswer(invocation -> {
+            Consumer<List<GameEntity>> pageConsumer = invocation.getArgument(1);
+            pageConsumer.accept(List.of(game(1L, "The Legend of Zelda")));
+            return null;
+        }).when(gameService).forEachPage(anyInt(), any());
+        maintainer.retryFailedBuild();
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!searchable() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(titleIndex.search("zelda", 5)).extracting(GameTitleIndex.TitleMatch::gameId).containsExactly(1L);
+    }
+
+    private boolean searchable() {
+        try {
+            titleIndex.search("zelda", 5);
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private static GameEntity game(Long id, String title) {
+        GameEntity game = new GameEntity("test_" + id, title);
+        game.setId(id);
+        return game;
+    }
+}
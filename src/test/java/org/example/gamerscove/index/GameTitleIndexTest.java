@@ -0,0 +1,84 @@
+package org.example.gamerscove.index;
+
+import org.example.gamerscove.domain.entities.GameEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameTitleIndexTest {
+
+    private final GameTitleIndex index = new GameTitleIndex();
+
+    @BeforeEach
+    void setUp() {
+        GameIndex.Build build = index.startBuild();
+        build.add(game(1L, "The Legend of Zelda: Breath of the Wild"));
+        build.add(game(2L, "Minecraft"));
+        build.add(game(3L, "Minecraft Dungeons"));
+        build.add(game(4L, "Pokémon Legends: Arceus"));
+        build.add(game(5L, "Dying Light 2"));
+        build.install();
+    }
+
+    @Test
+    void matchesPrefixesTyposAndAccents() {
+        assertThat(topIds("zeld")).startsWith(1L);
+        assertThat(topIds("minecarft")).startsWith(2L, 3L);
+        assertThat(topIds("pokemon")).startsWith(4L);
+        assertThat(topIds("xyzzy")).isEmpty();
+    }
+
+    @Test
+    void ranksExactTitleFirstAndAppliesUpdates() {
+        assertThat(topIds("minecraft")).containsExactly(2L, 3L);
+
+        index.update(List.of(game(2L, "Terraria"), game(6L, "Zelda II")));
+
+        assertThat(topIds("minecraft")).containsExactly(3L);
+        assertThat(topIds("terraria")).containsExactly(2L);
+        assertThat(topIds("zelda")).containsExactly(6L, 1L);
+    }
+
+    @Test
+    void concurrentSearchesDoNotShareCounters() throws Exception {
+        List<Future<Boolean>> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 2_000; i++) {
+                boolean zelda = i % 2 == 0;
+                results.add(executor.submit(() -> zelda
+                        ? topIds("zelda").equals(List.of(1L))
+                        : topIds("minecraft").equals(List.of(2L, 3L))));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void refusesQueriesUntilBuilt() {
+        assertThatThrownBy(() -> new GameTitleIndex().search("zelda", 5))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private List<Long> topIds(String query) {
+        return index.search(query, 5).stream().map(GameTitleIndex.TitleMatch::gameId).toList();
+    }
+
+    private static GameEntity game(Long id, String title) {
+        GameEntity game = new GameEntity("test_" + id, title);
+        game.setId(id);
+        return game;
+    }
+}
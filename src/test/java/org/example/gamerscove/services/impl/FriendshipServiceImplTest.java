@@ -0,0 +1,86 @@
+package org.example.gamerscove.services.impl;
+
+import org.example.gamerscove.domain.entities.FriendshipEntity;
+import org.example.gamerscove.domain.entities.FriendshipEntity.FriendshipStatus;
+import org.example.gamerscove.graph.FriendGraph;
+import org.example.gamerscove.repositories.FriendshipRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FriendshipServiceImplTest {
+
+    private FriendshipRepository friendshipRepository;
+    private FriendshipServiceImpl friendshipService;
+
+    @BeforeEach
+    void setUp() {
+        friendshipRepository = mock(FriendshipRepository.class);
+        when(friendshipRepository.save(any(FriendshipEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        friendshipService = new FriendshipServiceImpl(friendshipRepository, new FriendGraph(), mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void pairIsStoredNormalizedWhicheverWayTheRequestWent() {
+        FriendshipEntity friendship = new FriendshipEntity(9L, 4L);
+
+        assertThat(friendship.getUserLowId()).isEqualTo(4L);
+        assertThat(friendship.getUserHighId()).isEqualTo(9L);
+    }
+
+    @Test
+    void newRequestIsPendingAndLocksTheNormalizedPair() {
+        when(friendshipRepository.findPairForUpdate(4L, 9L)).thenReturn(Optional.empty());
+
+        FriendshipEntity friendship = friendshipService.sendRequest(9L, 4L);
+
+        assertThat(friendship.getStatus()).isEqualTo(FriendshipStatus.PENDING);
+        assertThat(friendship.getRequesterId()).isEqualTo(9L);
+    }
+
+    @Test
+    void requestBackToAPendingRequesterAcceptsIt() {
+        when(friendshipRepository.findPairForUpdate(1L, 2L)).thenReturn(Optional.of(new FriendshipEntity(1L, 2L)));
+
+        assertThat(friendshipService.sendRequest(2L, 1L).getStatus()).isEqualTo(FriendshipStatus.ACCEPTED);
+    }
+
+    @Test
+    void onlyTheReceiverCanAcceptARequest() {
+        when(friendshipRepository.findPairForUpdate(1L, 2L)).thenReturn(Optional.of(new FriendshipEntity(1L, 2L)));
+
+        assertThatThrownBy(() -> friendshipService.acceptRequest(1L, 2L)).isInstanceOf(NoSuchElementException.class);
+        assertThat(friendshipService.acceptRequest(2L, 1L).isAccepted()).isTrue();
+    }
+
+    @Test
+    void blockedPairRejectsRequestsAndCanOnlyBeLiftedByTheBlocker() {
+        FriendshipEntity blocked = new FriendshipEntity(1L, 2L);
+        blocked.setStatus(FriendshipStatus.BLOCKED);
+        when(friendshipRepository.findPairForUpdate(1L, 2L)).thenReturn(Optional.of(blocked));
+
+        assertThatThrownBy(() -> friendshipService.sendRequest(2L, 1L)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> friendshipService.removeFriendship(1L, 2L)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> friendshipService.unblockUser(2L, 1L)).isInstanceOf(NoSuchElementException.class);
+        verify(friendshipRepository, never()).delete(any());
+
+        friendshipService.unblockUser(1L, 2L);
+        verify(friendshipRepository).delete(blocked);
+    }
+
+    @Test
+    void usersCannotBefriendThemselves() {
+        assertThatThrownBy(() -> friendshipService.sendRequest(3L, 3L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
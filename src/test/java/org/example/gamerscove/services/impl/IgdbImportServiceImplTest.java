@@ -0,0 +1,241 @@
+package org.example.gamerscove.services.impl;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.gamerscove.clients.IgdbClient;
+import org.example.gamerscove.clients.IgdbCacheProperties;
+import org.example.gamerscove.clients.IgdbHttpProperties;
+import org.example.gamerscove.clients.IgdbResponseCache;
+import org.example.gamerscove.domain.dto.GameUpsertResultDto;
+import org.example.gamerscove.domain.dto.IgdbImportStatusDto;
+import org.example.gamerscove.domain.entities.GameEntity;
+import org.example.gamerscove.domain.entities.IgdbSyncStateEntity;
+import org.example.gamerscove.mappers.impl.IgdbGameConverter;
+import org.example.gamerscove.repositories.IgdbSyncStateRepository;
+import org.example.gamerscove.services.GameService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IgdbImportServiceImplTest {
+
+    private static final int CATALOG_SIZE = 1234;
+    private static final int PAGE_SIZE = 100;
+    private static final Pattern PAGE_QUERY = Pattern.compile("limit (\\d+); offset (\\d+);");
+
+    private HttpServer igdbStub;
+    private final Set<Integer> requestedOffsets = ConcurrentHashMap.newKeySet();
+    private final Set<String> upsertedIds = ConcurrentHashMap.newKeySet();
+    private volatile int failingOffset = -1;
+    private volatile int flakyOffset = -1;
+    private final AtomicInteger flakyFailuresLeft = new AtomicInteger();
+    private volatile int stallingOffset = -1;
+    private final AtomicInteger stallsLeft = new AtomicInteger();
+    private final CountDownLatch stubStopped = new CountDownLatch(1);
+    private Duration requestTimeout = Duration.ofSeconds(5);
+
+    private GameService gameService;
+    private IgdbSyncStateRepository syncStateRepository;
+    private IgdbSyncStateEntity savedState;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        igdbStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        igdbStub.createContext("/games", exchange -> {
+            String query = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            Matcher matcher = PAGE_QUERY.matcher(query);
+            matcher.find();
+            int limit = Integer.parseInt(matcher.group(1));
+            int offset = Integer.parseInt(matcher.group(2));
+            requestedOffsets.add(offset);
+
+            if (offset == failingOffset) {
+                exchange.sendResponseHeaders(500, -1);
+                exchange.close();
+                return;
+            }
+            if (offset == flakyOffset && flakyFailuresLeft.getAndDecrement() > 0) {
+                exchange.sendResponseHeaders(flakyFailuresLeft.get() % 2 == 0 ? 503 : 429, -1);
+                exchange.close();
+                return;
+            }
+
+            StringBuilder body = new StringBuilder("[");
+            for (int id = offset + 1; id <= Math.min(offset + limit, CATALOG_SIZE); id++) {
+                if (body.length() > 1) {
+                    body.append(',');
+                }
+                body.append("{\"id\":").append(id).append(",\"name\":\"Game ").append(id)
+                        .append("\",\"genres\":[{\"name\":\"RPG\"}]}");
+            }
+            body.append(']');
+
+            byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if ("gzip".equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"))) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                    gzip.write(bytes);
+                }
+                bytes = compressed.toByteArray();
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                if (offset == stallingOffset && stallsLeft.getAndDecrement() > 0) {
+                    // Headers and half the body, then nothing until the test ends
+                    out.write(bytes, 0, bytes.length / 2);
+                    out.flush();
+                    try {
+                        stubStopped.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return;
+                }
+                out.write(bytes);
+            }
+        });
+        igdbStub.setExecutor(Executors.newCachedThreadPool());
+        igdbStub.start();
+
+        gameService = mock(GameService.class);
+        when(gameService.upsertGames(anyList())).thenAnswer(invocation -> {
+            List<GameEntity> games = invocation.getArgument(0);
+            games.forEach(game -> upsertedIds.add(game.getExternalApiId()));
+            return GameUpsertResultDto.builder().inserted(games.size()).build();
+        });
+
+        syncStateRepository = mock(IgdbSyncStateRepository.class);
+        when(syncStateRepository.findById(IgdbImportServiceImpl.CATALOG_JOB)).thenAnswer(invocation -> Optional.ofNullable(savedState));
+        when(syncStateRepository.save(any(IgdbSyncStateEntity.class))).thenAnswer(invocation -> {
+            savedState = invocation.getArgument(0);
+            return savedState;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubStopped.countDown();
+        igdbStub.stop(0);
+    }
+
+    @Test
+    void importsWholeCatalogWithConcurrentPages() {
+        IgdbImportStatusDto status = createImportService().runCatalogImport(false);
+
+        assertThat(status.getLastError()).isNull();
+        assertThat(status.isCompleted()).isTrue();
+        assertThat(upsertedIds).hasSize(CATALOG_SIZE).contains("igdb_1", "igdb_1234");
+        assertThat(status.getGamesInserted()).isEqualTo(CATALOG_SIZE);
+        assertThat(savedState.isCompleted()).isTrue();
+        assertThat(savedState.getGamesUpserted()).isEqualTo(CATALOG_SIZE);
+    }
+
+    @Test
+    void resumesFromPersistedOffset() {
+        savedState = IgdbSyncStateEntity.builder()
+                .jobName(IgdbImportServiceImpl.CATALOG_JOB)
+                .nextOffset(1000)
+                .build();
+
+        createImportService().runCatalogImport(false);
+
+        assertThat(requestedOffsets).allMatch(offset -> offset >= 1000);
+        assertThat(upsertedIds).hasSize(CATALOG_SIZE - 1000).doesNotContain("igdb_1000").contains("igdb_1001");
+    }
+
+    @Test
+    void failedPageLeavesResumePointBeforeIt() {
+        failingOffset = 500;
+
+        IgdbImportStatusDto status = createImportService().runCatalogImport(false);
+
+        assertThat(status.getLastError()).isNotNull();
+        assertThat(status.isCompleted()).isFalse();
+        assertThat(savedState.getNextOffset()).isLessThanOrEqualTo(500);
+        assertThat(savedState.isCompleted()).isFalse();
+    }
+
+    @Test
+    void retriesThrottledAndFailedPages() {
+        flakyOffset = 300;
+        flakyFailuresLeft.set(2);
+
+        IgdbImportStatusDto status = createImportService().runCatalogImport(false);
+
+        assertThat(status.getLastError()).isNull();
+        assertThat(status.isCompleted()).isTrue();
+        assertThat(upsertedIds).hasSize(CATALOG_SIZE).contains("igdb_301");
+    }
+
+    @Test
+    void retriesPageWhoseBodyStallsPastTheRequestTimeout() {
+        stallingOffset = 700;
+        stallsLeft.set(1);
+        requestTimeout = Duration.ofSeconds(1);
+
+        long started = System.nanoTime();
+        IgdbImportStatusDto status = createImportService().runCatalogImport(false);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(10));
+        assertThat(stallsLeft.get()).isNegative();
+        assertThat(status.getLastError()).isNull();
+        assertThat(upsertedIds).hasSize(CATALOG_SIZE).contains("igdb_701");
+    }
+
+    @Test
+    void replaysImportFromDiskCacheWithoutNetwork(@TempDir Path cacheDir) {
+        createImportService(new IgdbCacheProperties(true, cacheDir, null, false)).runCatalogImport(false);
+        igdbStub.stop(0);
+        upsertedIds.clear();
+
+        IgdbImportStatusDto status = createImportService(new IgdbCacheProperties(true, cacheDir, null, true))
+                .runCatalogImport(true);
+
+        assertThat(status.getLastError()).isNull();
+        assertThat(status.isCompleted()).isTrue();
+        assertThat(upsertedIds).hasSize(CATALOG_SIZE);
+    }
+
+    private IgdbImportServiceImpl createImportService() {
+        return createImportService(IgdbCacheProperties.disabled());
+    }
+
+    private IgdbImportServiceImpl createImportService(IgdbCacheProperties cache) {
+        String apiUrl = "http://localhost:" + igdbStub.getAddress().getPort();
+        IgdbHttpProperties http = new IgdbHttpProperties(Duration.ofSeconds(1), requestTimeout, 3,
+                Duration.ofMillis(1), Duration.ofMillis(5), 10, Duration.ofSeconds(30));
+        IgdbClient igdbClient = new IgdbClient(HttpClient.newHttpClient(), Jackson2ObjectMapperBuilder.json().build(), http,
+                new IgdbResponseCache(cache), apiUrl, "client", "token", 1000);
+        return new IgdbImportServiceImpl(igdbClient, new IgdbGameConverter(), gameService, syncStateRepository, PAGE_SIZE, 4,
+                new CustomizableThreadFactory("igdb-fetch-"));
+    }
+}
@@ -0,0 +1,209 @@
+package org.example.gamerscove.services.impl;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.gamerscove.clients.IgdbCacheProperties;
+import org.example.gamerscove.clients.IgdbClient;
+import org.example.gamerscove.clients.IgdbHttpProperties;
+import org.example.gamerscove.clients.IgdbResponseCache;
+import org.example.gamerscove.domain.dto.GameUpsertResultDto;
+import org.example.gamerscove.domain.dto.IgdbSyncStatusDto;
+import org.example.gamerscove.domain.entities.GameEntity;
+import org.example.gamerscove.domain.entities.IgdbSyncStateEntity;
+import org.example.gamerscove.mappers.impl.IgdbGameConverter;
+import org.example.gamerscove.repositories.IgdbSyncStateRepository;
+import org.example.gamerscove.services.GameService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IgdbSyncServiceImplTest {
+
+    private static final Pattern AFTER_QUERY = Pattern.compile("where updated_at > (\\d+); sort updated_at asc; limit (\\d+);");
+    private static final Pattern TIE_QUERY = Pattern.compile("where updated_at = (\\d+) & id > (\\d+); sort id asc; limit (\\d+);");
+
+    private HttpServer igdbStub;
+    // IGDB's updated_at per game id
+    private final Map<Long, Long> catalog = new ConcurrentHashMap<>();
+    private final AtomicInteger pagesServed = new AtomicInteger();
+    private final AtomicInteger pagesUpserted = new AtomicInteger();
+    private final AtomicInteger maxPagesAhead = new AtomicInteger();
+    private final AtomicInteger maxQueryLength = new AtomicInteger();
+    private final List<String> upsertedIds = new CopyOnWriteArrayList<>();
+    private volatile long upsertDelayMillis;
+
+    private GameService gameService;
+    private IgdbSyncStateRepository syncStateRepository;
+    private IgdbSyncStateEntity savedState;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Seven games share each timestamp, so ties straddle every page boundary
+        for (long id = 1; id <= 50; id++) {
+            catalog.put(id, 1000 + id / 7);
+        }
+
+        igdbStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        igdbStub.createContext("/games", exchange -> {
+            String query = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            maxQueryLength.accumulateAndGet(query.length(), Math::max);
+            List<Map.Entry<Long, Long>> page;
+            Matcher after = AFTER_QUERY.matcher(query);
+            if (after.find()) {
+                long watermark = Long.parseLong(after.group(1));
+                // Ties come back in descending id order to show the sync does not rely on their order
+                page = catalog.entrySet().stream()
+                        .filter(game -> game.getValue() > watermark)
+                        .sorted(Map.Entry.<Long, Long>comparingByValue()
+                                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                        .limit(Integer.parseInt(after.group(2)))
+                        .toList();
+            } else {
+                Matcher tie = TIE_QUERY.matcher(query);
+                tie.find();
+                long updatedAt = Long.parseLong(tie.group(1));
+                long afterId = Long.parseLong(tie.group(2));
+                page = catalog.entrySet().stream()
+                        .filter(game -> game.getValue() == updatedAt && game.getKey() > afterId)
+                        .sorted(Map.Entry.comparingByKey())
+                        .limit(Integer.parseInt(tie.group(3)))
+                        .toList();
+            }
+            maxPagesAhead.accumulateAndGet(pagesServed.incrementAndGet() - pagesUpserted.get(), Math::max);
+
+            String body = page.stream()
+                    .map(game -> "{\"id\":" + game.getKey() + ",\"name\":\"Game " + game.getKey()
+                            + "\",\"updated_at\":" + game.getValue() + "}")
+                    .collect(Collectors.joining(",", "[", "]"));
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        igdbStub.start();
+
+        gameService = mock(GameService.class);
+        when(gameService.upsertGames(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(upsertDelayMillis);
+            List<GameEntity> games = invocation.getArgument(0);
+            games.forEach(game -> upsertedIds.add(game.getExternalApiId()));
+            pagesUpserted.incrementAndGet();
+            return GameUpsertResultDto.builder().updated(games.size()).build();
+        });
+
+        savedState = IgdbSyncStateEntity.builder().jobName(IgdbSyncServiceImpl.SYNC_JOB).watermark(1000L).build();
+        syncStateRepository = mock(IgdbSyncStateRepository.class);
+        when(syncStateRepository.findById(IgdbSyncServiceImpl.SYNC_JOB)).thenAnswer(invocation -> Optional.ofNullable(savedState));
+        when(syncStateRepository.save(any(IgdbSyncStateEntity.class))).thenAnswer(invocation -> {
+            savedState = invocation.getArgument(0);
+            return savedState;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        igdbStub.stop(0);
+    }
+
+    @Test
+    void syncsEveryChangedGameOnceAcrossTiedPageBoundaries() {
+        IgdbSyncStatusDto status = createSyncService(1).runSync();
+
+        assertThat(status.getLastError()).isNull();
+        assertThat(upsertedIds).hasSize(50).doesNotHaveDuplicates();
+        assertThat(savedState.getWatermark()).isEqualTo(1007L);
+        assertThat(status.getGamesUpdated()).isEqualTo(50);
+
+        // Next run only picks up what changed since, plus the games at the watermark itself
+        upsertedIds.clear();
+        catalog.put(3L, 2000L);
+        catalog.put(40L, 2000L);
+
+        createSyncService(1).runSync();
+
+        assertThat(upsertedIds).contains("igdb_3", "igdb_40").hasSizeLessThan(10);
+        assertThat(savedState.getWatermark()).isEqualTo(2000L);
+    }
+
+    @Test
+    void pagesThroughALargeTieWithoutGrowingTheQuery() {
+        for (long id = 101; id <= 160; id++) {
+            catalog.put(id, 3000L);
+        }
+
+        createSyncService(1).runSync();
+
+        assertThat(upsertedIds).hasSize(110).doesNotHaveDuplicates().contains("igdb_101", "igdb_160");
+        assertThat(savedState.getWatermark()).isEqualTo(3000L);
+        assertThat(maxQueryLength.get()).isLessThan(200);
+    }
+
+    @Test
+    void fetchingWaitsWhenUpsertsFallBehind() {
+        // Distinct timestamps from the watermark on, so every page fetched carries games to store
+        for (long id = 1; id <= 50; id++) {
+            catalog.put(id, 999 + id);
+        }
+        upsertDelayMillis = 30;
+
+        createSyncService(1).runSync();
+
+        assertThat(upsertedIds).hasSize(50);
+        // One page being stored, one queued and one held by the fetching thread
+        assertThat(maxPagesAhead.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void startedSyncRunsInTheBackgroundAndRefusesOverlap() throws Exception {
+        upsertDelayMillis = 30;
+        IgdbSyncServiceImpl syncService = createSyncService(1);
+
+        assertThat(syncService.startSync()).isTrue();
+        assertThat(syncService.getStatus().isRunning()).isTrue();
+        assertThat(syncService.startSync()).isFalse();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (syncService.getStatus().isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        syncService.shutdown();
+
+        assertThat(syncService.getStatus().isRunning()).isFalse();
+        assertThat(syncService.getStatus().getLastError()).isNull();
+        assertThat(upsertedIds).hasSize(50);
+    }
+
+    private IgdbSyncServiceImpl createSyncService(int queueCapacity) {
+        String apiUrl = "http://localhost:" + igdbStub.getAddress().getPort();
+        IgdbClient igdbClient = new IgdbClient(HttpClient.newHttpClient(), Jackson2ObjectMapperBuilder.json().build(),
+                IgdbHttpProperties.defaults(), new IgdbResponseCache(IgdbCacheProperties.disabled()), apiUrl,
+                "client", "token", 1000);
+        return new IgdbSyncServiceImpl(igdbClient, new IgdbGameConverter(), gameService, syncStateRepository,
+                new IgdbSyncProperties(true, 5, queueCapacity, Duration.ofDays(1)));
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.gamerscove.timeline;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimelineRingTest {
+
+    @Test
+    void pagesNewestFirstBelowTheCursor() {
+        TimelineRing ring = new TimelineRing(10);
+        for (long id = 1; id <= 6; id++) {
+            ring.add(id * 10);
+        }
+
+        assertThat(ring.before(null, 3)).containsExactly(60, 50, 40);
+        assertThat(ring.before(40L, 3)).containsExactly(30, 20, 10);
+        assertThat(ring.before(15L, 3)).containsExactly(10);
+        assertThat(ring.before(10L, 3)).isEmpty();
+    }
+
+    @Test
+    void dropsTheOldestOnceFullAcrossWrapAround() {
+        TimelineRing ring = new TimelineRing(3);
+        for (long id = 1; id <= 7; id++) {
+            ring.add(id);
+        }
+        // Older than everything kept: ignored
+        ring.add(2);
+
+        assertThat(ring.size()).isEqualTo(3);
+        assertThat(ring.before(null, 10)).containsExactly(7, 6, 5);
+    }
+
+    @Test
+    void outOfOrderAndRepeatedIdsStaySortedAndDistinct() {
+        TimelineRing ring = new TimelineRing(4);
+        ring.add(5);
+        ring.add(9);
+        ring.add(7);
+        ring.add(9);
+        ring.add(8);
+        ring.add(6);
+
+        assertThat(ring.before(null, 10)).containsExactly(9, 8, 7, 6);
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.gamerscove.timeline;
+
+import org.example.gamerscove.domain.entities.UserTimelineEntity;
+import org.example.gamerscove.repositories.UserTimelineRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TimelineStoreTest {
+
+    private final UserTimelineRepository timelineRepository = mock(UserTimelineRepository.class);
+    private final TimelineStore store =
+            new TimelineStore(timelineRepository, TransactionOperations.withoutTransaction(), 10, 100);
+
+    @Test
+    void replaysAppendsThatLandWhileTheRingLoads() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch appended = new CountDownLatch(1);
+        when(timelineRepository.findById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            assertThat(appended.await(5, TimeUnit.SECONDS)).isTrue();
+            // The row as read before the append committed
+            return Optional.of(timeline(1L, 10, 20));
+        });
+
+        CompletableFuture<long[]> firstPage = CompletableFuture.supplyAsync(() -> store.page(1L, null, 5));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        store.append(new long[]{1L, 2L}, 30);
+        appended.countDown();
+
+        assertThat(firstPage.get(5, TimeUnit.SECONDS)).containsExactly(30, 20, 10);
+        // Served from the installed ring from now on
+        assertThat(store.page(1L, 30L, 5)).containsExactly(20, 10);
+        assertThat(store.stats().getHits()).isEqualTo(1);
+        assertThat(store.stats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void appliesAppendsToResidentRings() {
+        when(timelineRepository.findById(1L)).thenReturn(Optional.of(timeline(1L, 10)));
+        when(timelineRepository.findById(2L)).thenReturn(Optional.empty());
+        store.page(1L, null, 5);
+        store.page(2L, null, 5);
+
+        store.append(new long[]{1L, 2L}, 40);
+
+        assertThat(store.page(1L, null, 5)).containsExactly(40, 10);
+        assertThat(store.page(2L, null, 5)).containsExactly(40);
+    }
+
+    @Test
+    void loadOverlappingAnUncommittedAppendStillGetsTheId() throws Exception {
+        AtomicReference<long[]> committedRow = new AtomicReference<>(new long[]{10});
+        when(timelineRepository.findById(1L)).thenAnswer(invocation -> Optional.of(timeline(1L, committedRow.get())));
+
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch loaded = new CountDownLatch(1);
+        // Holds the fan-out's transaction open until the load has read the row and installed its ring
+        TransactionOperations slowCommit = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                T result = action.doInTransaction(new SimpleTransactionStatus());
+                written.countDown();
+                try {
+                    assertThat(loaded.await(5, TimeUnit.SECONDS)).isTrue();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                committedRow.set(new long[]{10, 30});
+                return result;
+            }
+        };
+        TimelineStore store = new TimelineStore(timelineRepository, slowCommit, 10, 100);
+
+        CompletableFuture<Void> append = CompletableFuture.runAsync(() -> store.append(new long[]{1L}, 30));
+        assertThat(written.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(store.page(1L, null, 5)).containsExactly(10);
+        loaded.countDown();
+        append.get(5, TimeUnit.SECONDS);
+
+        assertThat(store.page(1L, null, 5)).containsExactly(30, 10);
+    }
+
+    private static UserTimelineEntity timeline(long userId, long... reviewIds) {
+        UserTimelineEntity entity = new UserTimelineEntity();
+        entity.setUserId(userId);
+        entity.setReviewIds(reviewIds);
+        return entity;
+    }
+}